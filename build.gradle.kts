@@ -8,6 +8,8 @@ plugins {
     // TODO: Inclusion of `jreleaser` seems to cause the https://docs.gradle.org/8.5/userguide/upgrading_version_8.html#deprecated_access_to_conventions warning. Need to look up and see if this is a known issue, which it better be if `jrleaser` is a real thing.
     id("org.jreleaser").version("1.15.0")
     id("signing")
+    // Runs the benchmarks in `src/jmh` via `./gradlew jmh`
+    id("me.champeau.jmh").version("0.7.2")
 }
 
 
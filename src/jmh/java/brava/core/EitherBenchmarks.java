@@ -0,0 +1,95 @@
+package brava.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the overhead of {@link Either#resultOf(Unchecked.Supplier)} and friends, compared to a plain {@code try}/{@code catch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EitherBenchmarks {
+    private final String valid   = "12345";
+    private final String invalid = "12x45";
+
+    private final List<Either<Integer, String>> mixed = IntStream.range(0, 100_000)
+        .mapToObj(i -> i % 10 == 0 ? Either.<Integer, String>ofB("💥") : Either.<Integer, String>ofA(i))
+        .toList();
+
+    //region Success
+
+    @Benchmark
+    public Object tryCatch_success() {
+        try {
+            return Integer.parseInt(valid);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Either<Integer, NumberFormatException> resultOf_success() {
+        return Either.resultOf(() -> Integer.parseInt(valid), NumberFormatException.class);
+    }
+
+    //endregion
+
+    //region Failure
+
+    @Benchmark
+    public Object tryCatch_failure() {
+        try {
+            return Integer.parseInt(invalid);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Either<Integer, NumberFormatException> resultOf_failure() {
+        return Either.resultOf(() -> Integer.parseInt(invalid), NumberFormatException.class);
+    }
+
+    @Benchmark
+    public Either<Integer, RuntimeException> resultOf_failure_varargs() {
+        return Either.resultOf(() -> Integer.parseInt(invalid), IllegalStateException.class, ArithmeticException.class, NumberFormatException.class);
+    }
+
+    //endregion
+
+    //region Partitioning
+
+    @Benchmark
+    public Object partition_twoPasses() {
+        var as = mixed.stream().flatMap(Either::streamA).toList();
+        var bs = mixed.stream().flatMap(Either::streamB).toList();
+        return List.of(as, bs);
+    }
+
+    @Benchmark
+    public Object partition_collector() {
+        return mixed.stream().collect(Either.partition());
+    }
+
+    @Benchmark
+    public Object partition_collector_parallel() {
+        return mixed.parallelStream().collect(Either.partition());
+    }
+
+    //endregion
+}
@@ -0,0 +1,103 @@
+package brava.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the different flavors of {@link Lazy}.
+ * <ul>
+ *     <li>{@code firstGet} benchmarks measure creating a brand-new instance and computing its value, i.e. the cost of the "cold" path.</li>
+ *     <li>{@code get} benchmarks measure reading the value of an instance that was already computed, i.e. the cost of the "hot" path.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyBenchmarks {
+    private static final StableLazy<Pattern> STABLE_LAZY = Lazy.stable(LazyBenchmarks::compile);
+
+    private Lazy<Pattern>     lazy;
+    private RacyLazy<Pattern> racyLazy;
+    private Lazy<Integer>     boxedInt;
+    private LazyInt           lazyInt;
+
+    @Setup
+    public void setup() {
+        lazy     = Lazy.of(LazyBenchmarks::compile);
+        racyLazy = Lazy.racy(LazyBenchmarks::compile);
+        boxedInt = Lazy.of(() -> 1_000);
+        lazyInt  = LazyInt.of(() -> 1_000);
+        lazy.get();
+        racyLazy.get();
+        boxedInt.get();
+        lazyInt.getAsInt();
+        STABLE_LAZY.get();
+    }
+
+    private static Pattern compile() {
+        return Pattern.compile("[a-z]+");
+    }
+
+    //region Cold
+
+    @Benchmark
+    public Pattern lazy_firstGet() {
+        return Lazy.of(LazyBenchmarks::compile).get();
+    }
+
+    @Benchmark
+    public Pattern racyLazy_firstGet() {
+        return Lazy.racy(LazyBenchmarks::compile).get();
+    }
+
+    //endregion
+
+    //region Hot
+
+    @Benchmark
+    @Threads(4)
+    public Pattern lazy_get() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Pattern racyLazy_get() {
+        return racyLazy.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Pattern stableLazy_get() {
+        return STABLE_LAZY.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int boxedInt_get() {
+        return boxedInt.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int lazyInt_get() {
+        return lazyInt.getAsInt();
+    }
+
+    //endregion
+}
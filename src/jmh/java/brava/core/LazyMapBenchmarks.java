@@ -0,0 +1,69 @@
+package brava.core;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link LazyMap} to Guava's {@link LoadingCache}, with the same {@link #maximumSize}.
+ * <p>
+ * Keys are drawn uniformly from {@code [0, keySpace)}, so when {@link #keySpace} is larger than {@link #maximumSize}, some lookups will miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LazyMapBenchmarks {
+    @Param({ "1000" })
+    public int maximumSize;
+    @Param({ "1000", "10000" })
+    public int keySpace;
+
+    private LazyMap<Integer, String>      lazyMap;
+    private LoadingCache<Integer, String> loadingCache;
+
+    @Setup
+    public void setup() {
+        lazyMap = LazyMap.of(LazyMapBenchmarks::compute, maximumSize);
+        loadingCache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build(CacheLoader.from(LazyMapBenchmarks::compute));
+    }
+
+    private static String compute(Integer key) {
+        return Integer.toHexString(key);
+    }
+
+    private int nextKey() {
+        return ThreadLocalRandom.current().nextInt(keySpace);
+    }
+
+    @Benchmark
+    public String lazyMap_get() {
+        return lazyMap.get(nextKey());
+    }
+
+    @Benchmark
+    public String loadingCache_get() {
+        return loadingCache.getUnchecked(nextKey());
+    }
+}
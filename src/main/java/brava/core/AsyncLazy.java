@@ -0,0 +1,170 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Similar to {@link Lazy}, but the {@link T} is computed on an {@link Executor}, so that nobody ever has to block waiting for it.
+ *
+ * @param <T> the type of my value
+ * @apiNote <ul>
+ * <li>All callers share the same {@link CompletableFuture} returned by {@link #future()}. You can compose it however you'd like, but you should
+ * <b><i>never</i></b> complete or cancel it yourself, because that would affect everybody else.</li>
+ * <li>To peek at the value without starting a computation that you don't need yet, check {@link #isDone()} first.</li>
+ * </ul>
+ * @implSpec Like {@link Lazy}:
+ * <ul>
+ *     <li>The supplier is invoked <i>at most once</i>.</li>
+ *     <li>If the supplier throws an exception, the {@link #future()} is completed with that exception <i>(without wrapping it)</i>.</li>
+ *     <li>Once the computation has started, no references to the supplier remain in me.</li>
+ * </ul>
+ */
+public final class AsyncLazy<T> {
+    private static final VarHandle FUTURE;
+
+    static {
+        try {
+            FUTURE = MethodHandles.lookup().findVarHandle(AsyncLazy.class, "future", CompletableFuture.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final @NotNull Executor executor;
+    /**
+     * The code that generates my {@link T}, which is forgotten as soon as my {@link #future} has been claimed.
+     *
+     * @implNote Only the thread that wins the race to set my {@link #future} ever touches this field after construction.
+     */
+    @Nullable
+    private Unchecked.Supplier<@NotNull T> supplier;
+    /**
+     * The shared result of my {@link #supplier}, which is {@code null} until somebody asks for it.
+     */
+    @Nullable
+    private volatile CompletableFuture<@NotNull T> future;
+
+    private AsyncLazy(@NotNull Unchecked.Supplier<@NotNull T> supplier, @NotNull Executor executor) {
+        this.supplier = Objects.requireNonNull(supplier, "supplier");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    //region Factories
+
+    /**
+     * Creates a new {@link AsyncLazy} that will compute its value on a new <a href="https://openjdk.org/jeps/444">virtual thread</a>.
+     *
+     * @param supplier the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param <T>      the type of my value
+     * @return a new {@link AsyncLazy}
+     * @apiNote If the current JVM doesn't support virtual threads, the {@link java.util.concurrent.ForkJoinPool#commonPool()} is used instead.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> @NotNull AsyncLazy<T> of(@NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        return new AsyncLazy<>(supplier, VirtualThreads.executor());
+    }
+
+    /**
+     * Creates a new {@link AsyncLazy} that will compute its value on the given {@link Executor}.
+     *
+     * @param supplier the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param executor where the {@code supplier} will be invoked
+     * @param <T>      the type of my value
+     * @return a new {@link AsyncLazy}
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> @NotNull AsyncLazy<T> of(@NotNull Unchecked.Supplier<@NotNull T> supplier, @NotNull Executor executor) {
+        return new AsyncLazy<>(supplier, executor);
+    }
+
+    //endregion
+
+    /**
+     * Starts computing my {@link T} if nobody has asked for it yet.
+     *
+     * @return the {@link CompletableFuture} shared by everybody who asks for my {@link T}
+     */
+    public @NotNull CompletableFuture<@NotNull T> future() {
+        var current = future;
+        if (current != null) {
+            return current;
+        }
+
+        return start();
+    }
+
+    private @NotNull CompletableFuture<@NotNull T> start() {
+        var created = new CompletableFuture<@NotNull T>();
+        CompletableFuture<T> witness = Unchecked.cast(FUTURE.compareAndExchange(this, null, created));
+        if (witness != null) {
+            return witness;
+        }
+
+        var supplier = Objects.requireNonNull(this.supplier);
+        this.supplier = null;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(Objects.requireNonNull(supplier.getChecked(), Lazy.NULL_VALUE_MESSAGE));
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (Throwable e) {
+            // e.g. a RejectedExecutionException
+            created.completeExceptionally(e);
+        }
+
+        return created;
+    }
+
+    /**
+     * @return {@code true} if my {@link T} has been computed <i>(or failed)</i>
+     * @apiNote Unlike {@link #future()} and {@link #getNow(Object)}, this won't start the computation.
+     */
+    @Contract(pure = true)
+    public boolean isDone() {
+        var current = future;
+        return current != null && current.isDone();
+    }
+
+    /**
+     * Returns my {@link T} if it's ready; otherwise, starts computing it <i>(if nobody else has)</i> and immediately returns the {@code fallback}.
+     *
+     * @param fallback returned if my {@link T} isn't ready yet
+     * @return my {@link T}, or {@code fallback}
+     * @apiNote If my supplier threw an exception, it will be {@link Unchecked#rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+     */
+    public T getNow(T fallback) {
+        try {
+            return future().getNow(fallback);
+        } catch (CompletionException e) {
+            return Unchecked.rethrow(e.getCause());
+        }
+    }
+
+    /**
+     * @return what's going on inside of me
+     * @apiNote Like {@link Lazy#state()}, I'm still {@link Lazy.State#FRESH} while my supplier is running.
+     */
+    @Contract(pure = true)
+    public @NotNull Lazy.State state() {
+        var current = future;
+        if (current == null || !current.isDone()) {
+            return Lazy.State.FRESH;
+        } else if (current.isCompletedExceptionally()) {
+            return Lazy.State.FAILED;
+        } else {
+            return Lazy.State.DONE;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Describes how {@link Either#resultOfAll(java.util.Collection, BatchOptions)} should run a batch of suppliers.
+ *
+ * @param executor       where each supplier is invoked
+ * @param maxConcurrency the most suppliers that may be running at the same time
+ * @param timeout        a deadline for the whole batch, measured from when it starts; anything that hasn't finished by then is cancelled
+ * @see #defaults()
+ */
+public record BatchOptions(@NotNull Executor executor, int maxConcurrency, @NotNull Optional<Duration> timeout) {
+    public BatchOptions {
+        Objects.requireNonNull(executor, "executor");
+        Preconditions.checkArgument(maxConcurrency >= 1, "maxConcurrency must be at least 1: %s", maxConcurrency);
+        timeout.ifPresent(it -> Preconditions.checkArgument(!it.isNegative(), "timeout must not be negative: %s", it));
+    }
+
+    /**
+     * @return {@link BatchOptions} that run every supplier at once, each on a new virtual thread <i>(if they're available)</i>, without a {@link #timeout}
+     * @see VirtualThreads#executor()
+     */
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull BatchOptions defaults() {
+        return new BatchOptions(VirtualThreads.executor(), Integer.MAX_VALUE, Optional.empty());
+    }
+
+    /**
+     * @param executor the new {@link #executor}
+     * @return a copy of me with a different {@link #executor}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull BatchOptions withExecutor(@NotNull Executor executor) {
+        return new BatchOptions(executor, maxConcurrency, timeout);
+    }
+
+    /**
+     * @param maxConcurrency the new {@link #maxConcurrency}
+     * @return a copy of me with a different {@link #maxConcurrency}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull BatchOptions withMaxConcurrency(int maxConcurrency) {
+        return new BatchOptions(executor, maxConcurrency, timeout);
+    }
+
+    /**
+     * @param timeout the new {@link #timeout}
+     * @return a copy of me with a different {@link #timeout}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull BatchOptions withTimeout(@NotNull Duration timeout) {
+        return new BatchOptions(executor, maxConcurrency, Optional.of(timeout));
+    }
+}
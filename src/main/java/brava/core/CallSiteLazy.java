@@ -0,0 +1,93 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The implementation of {@link StableLazy}.
+ * <p>
+ * Before my value has been computed, my {@link #site}'s target invokes an {@link Initializer}.
+ * Afterward, it is swapped for either {@link MethodHandles#constant(Class, Object)} or {@link MethodHandles#throwException(Class, Class)}.
+ *
+ * @param site    the {@link MutableCallSite} whose target produces my value
+ * @param invoker the {@link MutableCallSite#dynamicInvoker()} of my {@link #site}
+ * @implNote We're a {@link Record} because HotSpot trusts {@link Record} fields to be truly {@code final}.
+ * That means that when I am stored in a {@code static final} field, the JIT can constant-fold {@link #invoker}, and from there,
+ * the {@link MutableCallSite#getTarget()}.
+ */
+record CallSiteLazy<T>(@NotNull MutableCallSite site, @NotNull MethodHandle invoker) implements StableLazy<T> {
+    private static final MethodType   TYPE = MethodType.methodType(Object.class);
+    private static final MethodHandle INITIALIZE;
+
+    static {
+        try {
+            INITIALIZE = MethodHandles.lookup().findVirtual(Initializer.class, "initialize", TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    static <T> @NotNull CallSiteLazy<T> of(@NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        var site        = new MutableCallSite(TYPE);
+        var initializer = new Initializer<>(site, Objects.requireNonNull(supplier, "supplier"));
+        site.setTarget(INITIALIZE.bindTo(initializer));
+        return new CallSiteLazy<>(site, site.dynamicInvoker());
+    }
+
+    /**
+     * Computes my value and swaps my {@link #site}'s target.
+     * <p>
+     * Once that's happened, this object is no longer referenced by anything <i>(except for threads that were already waiting for it)</i>,
+     * so it - and the supplier - can be garbage collected.
+     */
+    private static final class Initializer<T> {
+        private final ReentrantLock   lock = new ReentrantLock();
+        private final MutableCallSite site;
+        @Nullable
+        private Unchecked.Supplier<T> supplier;
+
+        private Initializer(@NotNull MutableCallSite site, @NotNull Unchecked.Supplier<T> supplier) {
+            this.site     = site;
+            this.supplier = supplier;
+        }
+
+        @SuppressWarnings("unused" /* Invoked via INITIALIZE */)
+        private Object initialize() throws Throwable {
+            lock.lock();
+            try {
+                var supplier = this.supplier;
+                if (supplier != null) {
+                    MethodHandle target;
+                    try {
+                        var value = Objects.requireNonNull(supplier.getChecked(), Lazy.NULL_VALUE_MESSAGE);
+                        target = MethodHandles.constant(Object.class, value);
+                    } catch (Throwable e) {
+                        target = MethodHandles.throwException(Object.class, Throwable.class).bindTo(e);
+                    }
+
+                    this.supplier = null;
+                    site.setTarget(target);
+                    MutableCallSite.syncAll(new MutableCallSite[]{ site });
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            return (Object) site.getTarget().invokeExact();
+        }
+    }
+
+    @Override
+    public @NotNull T getChecked() throws Throwable {
+        return Unchecked.cast((Object) invoker.invokeExact());
+    }
+}
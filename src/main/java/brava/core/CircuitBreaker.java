@@ -0,0 +1,385 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling something that keeps failing, so that it has a chance to recover <i>(and so that we don't waste our time waiting on it)</i>.
+ * <ul>
+ *     <li>While I'm {@link State#CLOSED}, every call goes through, and I keep track of how many of them failed over the last {@link Policy#window()}.</li>
+ *     <li>Once at least {@link Policy#minimumCalls()} have been made and the {@link Metrics#failureRate()} reaches {@link Policy#failureRateThreshold()},
+ *     I become {@link State#OPEN}, and every call is rejected with an {@link OpenException} without being invoked.</li>
+ *     <li>After {@link Policy#openDuration()}, I become {@link State#HALF_OPEN}, and let exactly <i>one</i> probe call through.
+ *     If it succeeds, I become {@link State#CLOSED} again with a clean slate; if it fails, I go back to being {@link State#OPEN}.</li>
+ * </ul>
+ * <pre>{@code
+ * var breaker = new CircuitBreaker(CircuitBreaker.Policy.of(0.5, 20, Duration.ofSeconds(10), Duration.ofSeconds(30)));
+ *
+ * Either<Response, Throwable> response = breaker.resultOf(() -> client.send(request));
+ * }</pre>
+ *
+ * @implNote Nothing here takes a lock:
+ * <ul>
+ *     <li>The {@link Policy#window()} is split into {@value #BUCKET_COUNT} buckets, each counting its calls in {@link LongAdder}s, so that
+ *     concurrent callers don't all contend on the same counter.
+ *     A bucket that has fallen out of the window is recycled by whichever caller gets to it first.</li>
+ *     <li>The {@link State} transitions are {@link AtomicReference#compareAndSet(Object, Object)}s, so only one caller ever wins each transition.</li>
+ * </ul>
+ * A call that is recorded while its bucket is being recycled might be lost, which is fine, because the {@link Metrics#failureRate()} is a
+ * heuristic anyway.
+ */
+public final class CircuitBreaker {
+    private static final int BUCKET_COUNT = 10;
+
+    /**
+     * Describes when a {@link CircuitBreaker} should open, and how long it should stay open.
+     *
+     * @param failureRateThreshold the fraction <i>(between {@code 0} and {@code 1})</i> of calls that have to fail before I open
+     * @param minimumCalls         the fewest calls in the {@link #window} before I'll consider opening, so that a single failure doesn't count as a 100% failure rate
+     * @param window               how far back I look when calculating the {@link Metrics#failureRate()}
+     * @param openDuration         how long I stay {@link State#OPEN} before letting a probe call through
+     */
+    public record Policy(double failureRateThreshold, int minimumCalls, @NotNull Duration window, @NotNull Duration openDuration) {
+        public Policy {
+            Preconditions.checkArgument(failureRateThreshold > 0 && failureRateThreshold <= 1, "failureRateThreshold must be in (0, 1]: %s", failureRateThreshold);
+            Preconditions.checkArgument(minimumCalls >= 1, "minimumCalls must be at least 1: %s", minimumCalls);
+            Preconditions.checkArgument(window.toNanos() >= BUCKET_COUNT, "window must be at least %s nanoseconds: %s", BUCKET_COUNT, window);
+            Preconditions.checkArgument(!openDuration.isNegative(), "openDuration must not be negative: %s", openDuration);
+        }
+
+        /**
+         * @return a new {@link Policy}
+         * @see #Policy(double, int, Duration, Duration)
+         */
+        @Contract(value = "_, _, _, _ -> new", pure = true)
+        public static @NotNull Policy of(double failureRateThreshold, int minimumCalls, @NotNull Duration window, @NotNull Duration openDuration) {
+            return new Policy(failureRateThreshold, minimumCalls, window, openDuration);
+        }
+
+        /**
+         * @param failureRateThreshold the new {@link #failureRateThreshold}
+         * @return a copy of me with a different {@link #failureRateThreshold}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public @NotNull Policy withFailureRateThreshold(double failureRateThreshold) {
+            return new Policy(failureRateThreshold, minimumCalls, window, openDuration);
+        }
+
+        /**
+         * @param minimumCalls the new {@link #minimumCalls}
+         * @return a copy of me with a different {@link #minimumCalls}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public @NotNull Policy withMinimumCalls(int minimumCalls) {
+            return new Policy(failureRateThreshold, minimumCalls, window, openDuration);
+        }
+
+        /**
+         * @param window the new {@link #window}
+         * @return a copy of me with a different {@link #window}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public @NotNull Policy withWindow(@NotNull Duration window) {
+            return new Policy(failureRateThreshold, minimumCalls, window, openDuration);
+        }
+
+        /**
+         * @param openDuration the new {@link #openDuration}
+         * @return a copy of me with a different {@link #openDuration}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public @NotNull Policy withOpenDuration(@NotNull Duration openDuration) {
+            return new Policy(failureRateThreshold, minimumCalls, window, openDuration);
+        }
+    }
+
+    /**
+     * Describes whether a {@link CircuitBreaker} is letting calls through.
+     */
+    public enum State {
+        /**
+         * Every call goes through.
+         */
+        CLOSED,
+        /**
+         * Every call is rejected with an {@link OpenException}.
+         */
+        OPEN,
+        /**
+         * A single probe call goes through; everything else is rejected with an {@link OpenException}.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * A snapshot of what a {@link CircuitBreaker} has been up to.
+     *
+     * @param state           what I was doing when the snapshot was taken
+     * @param successes       how many calls succeeded within the current {@link Policy#window()}
+     * @param failures        how many calls failed within the current {@link Policy#window()}
+     * @param rejected        how many calls I've rejected, ever
+     * @param timesOpened     how many times I've become {@link State#OPEN}
+     * @param timesHalfOpened how many times I've become {@link State#HALF_OPEN}
+     * @param timesClosed     how many times I've gone from {@link State#HALF_OPEN} back to {@link State#CLOSED}
+     */
+    public record Metrics(
+        @NotNull State state,
+        long successes,
+        long failures,
+        long rejected,
+        long timesOpened,
+        long timesHalfOpened,
+        long timesClosed
+    ) {
+        /**
+         * @return the fraction of calls within the current {@link Policy#window()} that failed, or {@code 0} if there weren't any
+         */
+        @Contract(pure = true)
+        public double failureRate() {
+            var calls = successes + failures;
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+    }
+
+    /**
+     * Returned <i>(as the {@link Either#getB()})</i> for calls that were rejected without being invoked.
+     *
+     * @apiNote Rejections are meant to be cheap, so every {@link OpenException} is the same stackless instance.
+     */
+    public static final class OpenException extends RuntimeException {
+        private static final OpenException INSTANCE = new OpenException();
+
+        private OpenException() {
+            super("The circuit breaker is open", null, false, false);
+        }
+    }
+
+    private enum Permit {REJECTED, CALL, PROBE}
+
+    /**
+     * My {@link State}, along with when I last became {@link State#OPEN}, so that both are always swapped together.
+     *
+     * @implNote Transitions are {@link AtomicReference#compareAndSet(Object, Object)}s against the exact instance that was read, so the
+     * {@link #CLOSED} and {@link #HALF_OPEN} instances are shared, and every transition to {@link State#OPEN} creates a new one.
+     */
+    private record Status(@NotNull State state, long openedAtNanos) {
+        private static final Status CLOSED    = new Status(State.CLOSED, 0);
+        private static final Status HALF_OPEN = new Status(State.HALF_OPEN, 0);
+    }
+
+    private static final class Bucket {
+        /**
+         * Which slice of time <i>(in units of {@link #bucketNanos})</i> I'm currently counting.
+         */
+        private final AtomicLong epoch     = new AtomicLong(Long.MIN_VALUE);
+        private final LongAdder  successes = new LongAdder();
+        private final LongAdder  failures  = new LongAdder();
+    }
+
+    private final @NotNull Policy                  policy;
+    private final          long                    bucketNanos;
+    private final          long                    openNanos;
+    private final          Bucket[]                buckets         = new Bucket[BUCKET_COUNT];
+    private final          AtomicReference<Status> status          = new AtomicReference<>(Status.CLOSED);
+    private final          AtomicBoolean           probing         = new AtomicBoolean();
+    private final          LongAdder               rejected        = new LongAdder();
+    private final          LongAdder               timesOpened     = new LongAdder();
+    private final          LongAdder               timesHalfOpened = new LongAdder();
+    private final          LongAdder               timesClosed     = new LongAdder();
+
+    /**
+     * @param policy describes when I should open, and for how long
+     */
+    public CircuitBreaker(@NotNull Policy policy) {
+        this.policy      = Objects.requireNonNull(policy, "policy");
+        this.bucketNanos = Lazy.toNanosSaturated(policy.window()) / BUCKET_COUNT;
+        this.openNanos   = Lazy.toNanosSaturated(policy.openDuration());
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    //region Calls
+
+    /**
+     * Invokes {@code supplier} if I'm letting calls through.
+     *
+     * @param supplier some code that might throw a {@link Throwable}
+     * @return the {@link T} if the call succeeded; the {@link Throwable} if it failed; or an {@link OpenException} if it was rejected
+     */
+    public <T> @NotNull Either<@NotNull T, @NotNull Throwable> resultOf(@NotNull Unchecked.Supplier<? extends @NotNull T> supplier) {
+        Objects.requireNonNull(supplier, "supplier");
+        return call(() -> Either.resultOf(supplier));
+    }
+
+    /**
+     * Same as {@link #resultOf(Unchecked.Supplier)}, but for code that already returns an {@link Either}.
+     * Any {@link Either#hasB()} result counts as a failure.
+     *
+     * @param attempt makes a single call
+     * @return the result of the {@code attempt}, or an {@link OpenException} if it was rejected
+     */
+    public <T> @NotNull Either<@NotNull T, @NotNull Throwable> call(@NotNull Supplier<? extends Either<? extends T, ? extends Throwable>> attempt) {
+        var permit = acquire();
+        if (permit == Permit.REJECTED) {
+            rejected.increment();
+            return Either.ofB(OpenException.INSTANCE);
+        }
+
+        var succeeded = false;
+        try {
+            Either<T, Throwable> result = Either.widen(attempt.get());
+            succeeded = result.hasA();
+            return result;
+        } finally {
+            if (permit == Permit.PROBE) {
+                finishProbe(succeeded);
+            } else {
+                record(succeeded);
+            }
+        }
+    }
+
+    private @NotNull Permit acquire() {
+        var current = status.get();
+        if (current.state() == State.CLOSED) {
+            return Permit.CALL;
+        }
+
+        if (current.state() == State.OPEN) {
+            if (System.nanoTime() - current.openedAtNanos() < openNanos) {
+                return Permit.REJECTED;
+            }
+            if (status.compareAndSet(current, Status.HALF_OPEN)) {
+                timesHalfOpened.increment();
+            }
+        }
+
+        // We're (probably) HALF_OPEN, so only the first caller to get here is allowed through
+        if (!probing.compareAndSet(false, true)) {
+            return Permit.REJECTED;
+        }
+
+        // The previous probe might have finished between us reading the state and winning the probe
+        var now = status.get().state();
+        if (now == State.HALF_OPEN) {
+            return Permit.PROBE;
+        }
+
+        probing.set(false);
+        return now == State.CLOSED ? Permit.CALL : Permit.REJECTED;
+    }
+
+    private void finishProbe(boolean succeeded) {
+        try {
+            if (succeeded) {
+                // Nothing else is recorded while we're HALF_OPEN, so it's safe to clear the window before closing
+                resetWindow();
+                if (status.compareAndSet(Status.HALF_OPEN, Status.CLOSED)) {
+                    timesClosed.increment();
+                }
+            } else {
+                open(Status.HALF_OPEN);
+            }
+        } finally {
+            probing.set(false);
+        }
+    }
+
+    private void open(@NotNull Status from) {
+        if (status.compareAndSet(from, new Status(State.OPEN, System.nanoTime()))) {
+            timesOpened.increment();
+        }
+    }
+
+    //endregion
+
+    //region Sliding window
+
+    private void record(boolean succeeded) {
+        var bucket = currentBucket(System.nanoTime() / bucketNanos);
+        (succeeded ? bucket.successes : bucket.failures).increment();
+
+        if (!succeeded && status.get() == Status.CLOSED) {
+            var snapshot = metrics();
+            if (snapshot.successes() + snapshot.failures() >= policy.minimumCalls() && snapshot.failureRate() >= policy.failureRateThreshold()) {
+                open(Status.CLOSED);
+            }
+        }
+    }
+
+    private @NotNull Bucket currentBucket(long epoch) {
+        var bucket = buckets[Math.floorMod(epoch, BUCKET_COUNT)];
+        var seen   = bucket.epoch.get();
+        if (seen != epoch && bucket.epoch.compareAndSet(seen, epoch)) {
+            bucket.successes.reset();
+            bucket.failures.reset();
+        }
+        return bucket;
+    }
+
+    private void resetWindow() {
+        for (var bucket : buckets) {
+            bucket.epoch.set(Long.MIN_VALUE);
+            bucket.successes.reset();
+            bucket.failures.reset();
+        }
+    }
+
+    //endregion
+
+    /**
+     * @return what I'm doing right now
+     * @apiNote An {@link State#OPEN} breaker only becomes {@link State#HALF_OPEN} when somebody tries to call it after its {@link Policy#openDuration()}.
+     */
+    public @NotNull State state() {
+        return status.get().state();
+    }
+
+    /**
+     * @return a snapshot of my current {@link State} and counters
+     * @apiNote The counters are read one at a time, so a snapshot taken while calls are in flight might be slightly inconsistent.
+     */
+    public @NotNull Metrics metrics() {
+        var oldestEpoch = System.nanoTime() / bucketNanos - BUCKET_COUNT + 1;
+        long successes = 0;
+        long failures  = 0;
+        for (var bucket : buckets) {
+            if (bucket.epoch.get() >= oldestEpoch) {
+                successes += bucket.successes.sum();
+                failures += bucket.failures.sum();
+            }
+        }
+
+        return new Metrics(
+            state(),
+            successes,
+            failures,
+            rejected.sum(),
+            timesOpened.sum(),
+            timesHalfOpened.sum(),
+            timesClosed.sum()
+        );
+    }
+
+    /**
+     * @return the {@link Policy} I was created with
+     */
+    public @NotNull Policy policy() {
+        return policy;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker[" + state() + "]";
+    }
+}
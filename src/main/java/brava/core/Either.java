@@ -1,19 +1,34 @@
 package brava.core;
 
 import brava.core.exceptions.Exceptions;
+import brava.core.tuples.Tuple;
+import brava.core.tuples.Tuple2;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.common.base.Equivalence;
+import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 /**
@@ -23,62 +38,60 @@ import java.util.stream.Stream;
  * @param <B> an alternate universe
  * @apiNote This class is particularly useful for representing things that might have failed, where you want to return either a proper result or a raised {@link Exception}.
  * You can see this pattern used in Java itself at {@link java.util.concurrent.CompletableFuture#handle(BiFunction)}.
+ * @implNote Every {@link Either} is exactly one of {@link OfA} or {@link OfB}, which means you can use pattern matching on them:
+ * <pre>{@code
+ * if (either instanceof Either.OfA<String, Integer> a) {
+ *     String value = a.getValue();
+ * }
+ * }</pre>
  */
-public final class Either<A, B> {
+public abstract sealed class Either<A, B> permits Either.OfA, Either.OfB {
     /**
      * Either the {@link A} or the {@link B} value.
      */
     @NotNull
     @JsonValue
     private final Object value;
-    private final boolean hasA;
 
-    private Either(@Nullable Object value, boolean hasA) {
+    private Either(@Nullable Object value) {
         if (value == null) {
-            throw new IllegalArgumentException(String.format("You can't construct an %s from a null value!", getClass().getSimpleName()));
+            throw new IllegalArgumentException(String.format("You can't construct an %s from a null value!", Either.class.getSimpleName()));
         }
 
         this.value = value;
-        this.hasA = hasA;
     }
 
     /**
      * @return {@code true} if I contain a {@link #value} of {@link A}
      */
     @Contract(pure = true)
-    public boolean hasA() {
-        return hasA;
-    }
+    public abstract boolean hasA();
 
     /**
      * @return {@code true} if I contain a {@link #value} of {@link B}
      */
     @Contract(pure = true)
-    public boolean hasB() {
-        return !hasA;
-    }
+    public abstract boolean hasB();
 
     /**
      * @return {@link Which#A} if my {@link #value} is {@link A}; otherwise, {@link Which#B}
      */
     @Contract(pure = true)
-    public @NotNull Which hasWhich() {
-        return hasA ? Which.A : Which.B;
-    }
+    public abstract @NotNull Which hasWhich();
 
     //region Helpers
     
     @SuppressWarnings("unchecked")
     @NotNull
     @Contract(pure = true)
-    private A unsafeA() {
+    final A unsafeA() {
         return (A) value;
     }
 
     @SuppressWarnings("unchecked")
     @NotNull
     @Contract(pure = true)
-    private B unsafeB() {
+    final B unsafeB() {
         return (B) value;
     }
 
@@ -97,14 +110,7 @@ public final class Either<A, B> {
      */
     @Contract(pure = true)
     @NotNull
-    public A getA() {
-        if (hasB()) {
-            throw new NoSuchElementException(
-                  String.format("Can't get 🅰 because this %s contains 🅱 (%s)!", getClass().getSimpleName(), value));
-        }
-
-        return unsafeA();
-    }
+    public abstract A getA();
 
     /**
      * @return my {@link B} value
@@ -113,14 +119,7 @@ public final class Either<A, B> {
      */
     @NotNull
     @Contract(pure = true)
-    public B getB() {
-        if (hasA()) {
-            throw new NoSuchElementException(
-                  String.format("Can't get 🅱 because this %s contains 🅰 (%s)!", getClass().getSimpleName(), value));
-        }
-
-        return unsafeB();
-    }
+    public abstract B getB();
 
     /**
      * @return my {@link A} value, <i><b>if</b></i> I {@link #hasA()}
@@ -128,13 +127,7 @@ public final class Either<A, B> {
      */
     @Contract(pure = true)
     @NotNull
-    public Optional<A> tryGetA() {
-        if (hasA()) {
-            return Optional.of(unsafeA());
-        } else {
-            return Optional.empty();
-        }
-    }
+    public abstract Optional<A> tryGetA();
 
     /**
      * @return my {@link B} value, <i><b>if</b></i> I {@link #hasB()}
@@ -142,13 +135,7 @@ public final class Either<A, B> {
      */
     @Contract(pure = true)
     @NotNull
-    public Optional<B> tryGetB() {
-        if (hasB()) {
-            return Optional.of(unsafeB());
-        } else {
-            return Optional.empty();
-        }
-    }
+    public abstract Optional<B> tryGetB();
 
     /**
      * @return a {@link Stream#of(A)}, <i>if</i> I {@link #hasA()}
@@ -165,13 +152,7 @@ public final class Either<A, B> {
      */
     @NotNull
     @Contract(pure = true)
-    public Stream<@NotNull A> streamA() {
-        if (hasA()) {
-            return Stream.of(unsafeA());
-        } else {
-            return Stream.empty();
-        }
-    }
+    public abstract Stream<@NotNull A> streamA();
 
     /**
      * @return a {@link Stream#of(B)}, <i>if</i> I {@link #hasB()} ()}
@@ -188,16 +169,11 @@ public final class Either<A, B> {
      */
     @NotNull
     @Contract(pure = true)
-    public Stream<@NotNull B> streamB() {
-        if (hasB()) {
-            return Stream.of(unsafeB());
-        } else {
-            return Stream.empty();
-        }
-    }
+    public abstract Stream<@NotNull B> streamB();
 
     /**
      * @return my {@link #value}, which can be either an {@link A} or {@link B}
+     * @apiNote {@link OfA} and {@link OfB} narrow this to {@link A} and {@link B}, respectively.
      */
     @NotNull
     public Object getValue() {
@@ -240,7 +216,7 @@ public final class Either<A, B> {
     @NotNull
     @Contract(pure = true)
     public static <A, B> Either<@NotNull A, @NotNull B> ofA(@NotNull A a) {
-        return new Either<>(a, true);
+        return new OfA<>(a);
     }
 
     /**
@@ -250,7 +226,93 @@ public final class Either<A, B> {
     @NotNull
     @Contract(pure = true)
     public static <A, B> Either<@NotNull A, @NotNull B> ofB(@NotNull B b) {
-        return new Either<>(b, false);
+        return new OfB<>(b);
+    }
+
+    /**
+     * Attempts to invoke a {@link Callable}, returning either the result or the thrown {@link Throwable}.
+     *
+     * @param supplier some code that might throw a {@link Throwable}
+     * @return a new {@link Either} containing the resulting {@link T} OR the thrown {@link Throwable}
+     * @throws IllegalArgumentException if the {@code supplier} returns null
+     * @implSpec Only exceptions raised <i>inside</i> of {@link Callable#call()} should be caught.
+     */
+    public static <T> @NotNull Either<@NotNull T, @NotNull Throwable> resultOf(@NotNull Unchecked.Supplier<? extends @NotNull T> supplier) {
+        Objects.requireNonNull(supplier);
+
+        T result;
+        try {
+            // We don't want to return from inside the try/catch because we want to make sure we ONLY catch exceptions caused by `supplier.call()`.
+            // For example, if `supplier.call()` returns `null`, we want that error to be propagated.
+            result = supplier.getChecked();
+        } catch (Throwable e) {
+            return ofB(e);
+        }
+
+        return ofNullable(result, null);
+    }
+
+    /**
+     * Attempts to invoke a {@link Callable}, catching and returning the given exception type.
+     * <i><b>Any</b></i> other exception is {@link Unchecked#rethrow(Throwable)}n.
+     *
+     * @param supplier some code that produces {@link T} and might throw an {@link E}
+     * @param catching the exception type that we want to catch and return
+     * @return a new {@link Either} containing the resulting {@link T} OR the thrown {@link E}
+     * @apiNote Unlike {@link #resultOf(Unchecked.Supplier, Class, Class[])}, this doesn't allocate anything other than the {@link Either}.
+     */
+    @NotNull
+    public static <T, E extends Throwable> Either<@NotNull T, @NotNull E> resultOf(
+          @NotNull Unchecked.Supplier<? extends @NotNull T> supplier,
+          @NotNull Class<? extends E> catching
+    ) {
+        Objects.requireNonNull(supplier);
+
+        T result;
+        try {
+            result = supplier.getChecked();
+        } catch (Throwable e) {
+            if (catching.isInstance(e)) {
+                return ofB(catching.cast(e));
+            }
+            return Unchecked.rethrow(e);
+        }
+
+        return ofNullable(result, null);
+    }
+
+    /**
+     * Attempts to invoke a {@link Callable}, catching and returning the given exception types.
+     * <i><b>Any</b></i> other exception is {@link Unchecked#rethrow(Throwable)}n.
+     *
+     * @param supplier     some code that produces {@link T} and might throw an {@link E}
+     * @param catching     an exception type that we want to catch and return
+     * @param alsoCatching another exception type that we want to catch and return
+     * @return a new {@link Either} containing the resulting {@link T} OR the thrown {@link E}
+     * @apiNote Unlike {@link #resultOf(Unchecked.Supplier, Class, Class[])}, this doesn't allocate anything other than the {@link Either}.
+     */
+    @NotNull
+    public static <T, E extends Throwable> Either<@NotNull T, @NotNull E> resultOf(
+          @NotNull Unchecked.Supplier<? extends @NotNull T> supplier,
+          @NotNull Class<? extends E> catching,
+          @NotNull Class<? extends E> alsoCatching
+    ) {
+        Objects.requireNonNull(supplier);
+
+        T result;
+        try {
+            result = supplier.getChecked();
+        } catch (Throwable e) {
+            if (catching.isInstance(e)) {
+                return ofB(catching.cast(e));
+            }
+            if (alsoCatching.isInstance(e)) {
+                return ofB(alsoCatching.cast(e));
+            }
+            return Unchecked.rethrow(e);
+        }
+
+        return ofNullable(result, null);
     }
 
     /**
@@ -261,6 +323,8 @@ public final class Either<A, B> {
      * @param catching     an exception type that we want to catch and return
      * @param alsoCatching additional exception types that we can catch
      * @return a new {@link Either} containing the resulting {@link T} OR the thrown {@link E}
+     * @apiNote If you only need to catch 1 or 2 exception types, the compiler will pick {@link #resultOf(Unchecked.Supplier, Class)} or
+     * {@link #resultOf(Unchecked.Supplier, Class, Class)} instead, which avoid allocating a varargs array.
      */
     @SafeVarargs
     @NotNull
@@ -272,45 +336,68 @@ public final class Either<A, B> {
         Objects.requireNonNull(supplier);
 
         T result;
-        E exc;
         try {
-            // We don't want to return from inside the try/catch because we want to make sure we ONLY catch exceptions caused by `supplier.call()`.
-            // For example, if `supplier.call()` returns `null`, we want that error to be propagated.
-            result = supplier.get();
-            exc = null;
+            result = supplier.getChecked();
         } catch (Throwable e) {
-            result = null;
-            try {
-                exc = Unchecked.get(() -> Exceptions.throwUnless(e, catching, alsoCatching));
-            } catch (Throwable e2) {
-                return Unchecked.rethrow(e2);
+            if (catching.isInstance(e)) {
+                return ofB(catching.cast(e));
+            }
+            for (var type : alsoCatching) {
+                if (type.isInstance(e)) {
+                    return ofB(type.cast(e));
+                }
             }
+            return Unchecked.rethrow(e);
         }
 
-        return Either.ofNullable(result, exc);
+        return ofNullable(result, null);
     }
 
     /**
-     * Attempts to invoke a {@link Callable}, returning either the result or the thrown {@link Throwable}.
+     * Same as {@link #resultOfAll(Collection, BatchOptions)}, using the {@link BatchOptions#defaults()}.
+     */
+    public static <T> @NotNull @Unmodifiable List<Either<@NotNull T, @NotNull Throwable>> resultOfAll(
+          @NotNull Collection<? extends Unchecked.Supplier<? extends @NotNull T>> suppliers
+    ) {
+        return resultOfAll(suppliers, BatchOptions.defaults());
+    }
+
+    /**
+     * Invokes a batch of independent suppliers concurrently, capturing each result like {@link #resultOf(Unchecked.Supplier)}.
      *
-     * @param supplier some code that might throw a {@link Throwable}
-     * @return a new {@link Either} containing the resulting {@link T} OR the thrown {@link Throwable}
-     * @throws IllegalArgumentException if the {@code supplier} returns null
-     * @implSpec Only exceptions raised <i>inside</i> of {@link Callable#call()} should be caught.
+     * @param suppliers some code that might throw a {@link Throwable}
+     * @param options   where to run the {@code suppliers}, how many at once, and how long to wait for them
+     * @return each supplier's result, in the same order as the {@code suppliers}
+     * @apiNote Anything that didn't finish before the {@link BatchOptions#timeout()} is cancelled <i>(interrupting it if it had started)</i> and
+     * reported as a {@link java.util.concurrent.TimeoutException}.
+     * If the calling thread is interrupted, the batch is cancelled in the same way, reporting a {@link java.util.concurrent.CancellationException}
+     * instead, and the interrupt flag is restored.
+     * @see #resultOfAllAsCompleted(Collection, BatchOptions)
      */
-    public static <T> @NotNull Either<@NotNull T, @NotNull Throwable> resultOf(@NotNull Unchecked.Supplier<? extends @NotNull T> supplier) {
-        return resultOf(supplier, Throwable.class);
+    public static <T> @NotNull @Unmodifiable List<Either<@NotNull T, @NotNull Throwable>> resultOfAll(
+          @NotNull Collection<? extends Unchecked.Supplier<? extends @NotNull T>> suppliers,
+          @NotNull BatchOptions options
+    ) {
+        var results = new Either<?, ?>[suppliers.size()];
+        new ResultOfAll<T>(suppliers, options).forEachRemaining(it -> results[it.a()] = it.b());
+        return Collections.unmodifiableList(Arrays.<Either<T, Throwable>>asList(Unchecked.cast(results)));
     }
 
-    @NotNull
-    @Override
-    @Contract(pure = true)
-    public String toString() {
-        if (hasA()) {
-            return "🅰 " + value;
-        } else {
-            return "🅱 " + value;
-        }
+    /**
+     * Same as {@link #resultOfAll(Collection, BatchOptions)}, but hands out each result as soon as it's available.
+     *
+     * @param suppliers some code that might throw a {@link Throwable}
+     * @param options   where to run the {@code suppliers}, how many at once, and how long to wait for them
+     * @return an {@link Iterator} of ({@code index}, result) pairs, in the order they complete, where {@code index} is the position of the supplier
+     * in {@code suppliers}
+     * @apiNote The {@code suppliers} start running right away, not when you start iterating.
+     * The {@link BatchOptions#timeout()} is only enforced while you're waiting in {@link Iterator#next()}.
+     */
+    public static <T> @NotNull Iterator<Tuple2<Integer, Either<@NotNull T, @NotNull Throwable>>> resultOfAllAsCompleted(
+          @NotNull Collection<? extends Unchecked.Supplier<? extends @NotNull T>> suppliers,
+          @NotNull BatchOptions options
+    ) {
+        return new ResultOfAll<>(suppliers, options);
     }
 
     //region Transforming
@@ -325,16 +412,10 @@ public final class Either<A, B> {
      * @apiNote The name "handle" corresponds to {@link java.util.concurrent.CompletableFuture#handle(BiFunction)}.
      * @see #map(Function, Function)
      */
-    public <T> T handle(
+    public abstract <T> T handle(
           @NotNull Function<? super @NotNull A, ? extends T> ifA,
           @NotNull Function<? super @NotNull B, ? extends T> ifB
-    ) {
-        if (hasA) {
-            return ifA.apply(unsafeA());
-        } else {
-            return ifB.apply(unsafeB());
-        }
-    }
+    );
 
     /**
      * If I:
@@ -346,13 +427,7 @@ public final class Either<A, B> {
      * @param ifB if I {@link #hasB()}, this function transforms it into {@link A}
      * @return an {@link A} value
      */
-    public A toA(@NotNull Function<? super @NotNull B, ? extends A> ifB) {
-        if (hasA) {
-            return unsafeA();
-        }
-
-        return ifB.apply(unsafeB());
-    }
+    public abstract A toA(@NotNull Function<? super @NotNull B, ? extends A> ifB);
 
     /**
      * If I:
@@ -364,13 +439,7 @@ public final class Either<A, B> {
      * @param ifA if I {@link #hasA()}, this function transforms it into {@link B}
      * @return a {@link B} value
      */
-    public B toB(@NotNull Function<? super @NotNull A, ? extends B> ifA) {
-        if (hasA) {
-            return ifA.apply(unsafeA());
-        }
-
-        return unsafeB();
-    }
+    public abstract B toB(@NotNull Function<? super @NotNull A, ? extends B> ifA);
 
     /**
      * Transforms my {@link #value} into {@link Either}&gt;{@link A2}, {@link B2}> depending on whether I {@link #hasA()} or {@link #hasB()}.
@@ -382,16 +451,10 @@ public final class Either<A, B> {
      * @return {@link Either}&gt;{@link A2}, {@link B2}>
      * @see #handle(Function, Function)
      */
-    public <A2, B2> Either<@NotNull A2, @NotNull B2> map(
+    public abstract <A2, B2> Either<@NotNull A2, @NotNull B2> map(
           @NotNull Function<? super @NotNull A, ? extends @NotNull A2> ifA,
           @NotNull Function<? super @NotNull B, ? extends @NotNull B2> ifB
-    ) {
-        if (hasA) {
-            return Either.ofA(ifA.apply(unsafeA()));
-        } else {
-            return Either.ofB(ifB.apply(unsafeB()));
-        }
-    }
+    );
 
     /**
      * If I:
@@ -405,15 +468,9 @@ public final class Either<A, B> {
      * @return {@link Either}&lt;{@link A2}, {@link B}&gt;
      * @see #map(Function, Function)
      */
-    public <A2> Either<A2, B> mapA(
+    public abstract <A2> Either<A2, B> mapA(
           @NotNull Function<? super @NotNull A, ? extends @NotNull A2> ifA
-    ) {
-        if (hasA) {
-            return Either.ofA(ifA.apply(unsafeA()));
-        } else {
-            return Unchecked.cast(this);
-        }
-    }
+    );
 
     /**
      * If I:
@@ -427,15 +484,9 @@ public final class Either<A, B> {
      * @return {@link Either}&lt;{@link B}, {@link B2}&gt;
      * @see #map(Function, Function)
      */
-    public <B2> Either<A, B2> mapB(
+    public abstract <B2> Either<A, B2> mapB(
           @NotNull Function<? super @NotNull B, ? extends @NotNull B2> ifB
-    ) {
-        if (hasA) {
-            return Unchecked.cast(this);
-        } else {
-            return Either.ofB(ifB.apply(unsafeB()));
-        }
-    }
+    );
 
     /**
      * Similar to {@link #mapA(Function)}, but using a function that would return another {@link Either} without nesting them inside of other.
@@ -481,13 +532,7 @@ public final class Either<A, B> {
      * @return {@link Either}&lt;{@link A2}, {@link B}&gt;
      * @apiNote This method is analogous to {@link Optional#or(Supplier)}.
      */
-    public <A2> Either<A2, B> flatMapA(Function<? super @NotNull A, ? extends Either<? extends A2, ? extends @NotNull B>> ifA) {
-        if (hasA) {
-            return widen(ifA.apply(unsafeA()));
-        } else {
-            return Unchecked.cast(this);
-        }
-    }
+    public abstract <A2> Either<A2, B> flatMapA(Function<? super @NotNull A, ? extends Either<? extends A2, ? extends @NotNull B>> ifA);
 
     /**
      * Similar to {@link #mapB(Function)}, but using a function that would return another {@link Either} without nesting them inside of each other.
@@ -499,11 +544,209 @@ public final class Either<A, B> {
      * @return {@link Either}&lt;{@link A}, {@link B2}&gt;
      * @apiNote This method is analogous to {@link Optional#or(Supplier)}.
      */
-    public <B2> Either<A, B2> flatMapB(Function<? super @NotNull B, ? extends Either<A, ? extends @NotNull B2>> ifB) {
-        if (hasA) {
-            return Unchecked.cast(this);
+    public abstract <B2> Either<A, B2> flatMapB(Function<? super @NotNull B, ? extends Either<A, ? extends @NotNull B2>> ifB);
+
+    //endregion
+
+    //region Partitioning
+
+    /**
+     * Splits a {@link Stream} of {@link Either}s into their {@link A}s and {@link B}s in a single pass.
+     *
+     * <pre>{@code
+     * Tuple2<List<Row>, List<Throwable>> results = rows.stream()
+     *     .map(it -> Either.resultOf(() -> parse(it)))
+     *     .collect(Either.partition());
+     * }</pre>
+     *
+     * @return a {@link Collector} producing a {@link Tuple2} of ({@link A}s, {@link B}s), each in encounter order
+     * @apiNote This is safe to use with {@link Stream#parallel()} streams.
+     * @see #partition(int, int)
+     * @see #partitionFailFast(Stream, int)
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <A, B> Collector<Either<? extends A, ? extends B>, ?, Tuple2<List<A>, List<B>>> partition() {
+        return partition(ArrayList::new, ArrayList::new);
+    }
+
+    /**
+     * Same as {@link #partition()}, but starts with {@link List}s that can already hold the expected number of elements.
+     *
+     * @param expectedA the initial capacity of the {@link A} list
+     * @param expectedB the initial capacity of the {@link B} list
+     * @return a {@link Collector} producing a {@link Tuple2} of ({@link A}s, {@link B}s), each in encounter order
+     * @apiNote With {@link Stream#parallel()} streams, <i>each</i> partial result is pre-sized, so this mostly pays off for sequential streams.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <A, B> Collector<Either<? extends A, ? extends B>, ?, Tuple2<List<A>, List<B>>> partition(int expectedA, int expectedB) {
+        Preconditions.checkArgument(expectedA >= 0, "expectedA must be non-negative, but was %s", expectedA);
+        Preconditions.checkArgument(expectedB >= 0, "expectedB must be non-negative, but was %s", expectedB);
+        return partition(() -> new ArrayList<>(expectedA), () -> new ArrayList<>(expectedB));
+    }
+
+    private static <A, B> Collector<Either<? extends A, ? extends B>, ?, Tuple2<List<A>, List<B>>> partition(
+          @NotNull Supplier<List<A>> aList,
+          @NotNull Supplier<List<B>> bList
+    ) {
+        return Collector.<Either<? extends A, ? extends B>, Tuple2<List<A>, List<B>>>of(
+              () -> Tuple.of(aList.get(), bList.get()),
+              Either::partitionInto,
+              (left, right) -> {
+                  left.a().addAll(right.a());
+                  left.b().addAll(right.b());
+                  return left;
+              },
+              Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * Splits a {@link Stream} of {@link Either}s into their {@link A}s and {@link B}s, but stops pulling elements from the {@code stream}
+     * as soon as it has seen {@code maxFailures} {@link B}s.
+     * <p>
+     * Because the rest of the {@code stream} is never requested, any upstream work <i>(e.g. {@link Stream#map(Function)} calls)</i> for
+     * the remaining elements is skipped entirely.
+     *
+     * @param stream      the source of {@link Either}s
+     * @param maxFailures how many {@link B}s to accept before giving up
+     * @return a {@link Tuple2} of ({@link A}s, {@link B}s), each in encounter order; there will never be more than {@code maxFailures} {@link B}s
+     * @throws IllegalArgumentException if {@code maxFailures} is less than 1
+     * @apiNote A {@link Collector} can't stop its source early, which is why this consumes the {@link Stream} directly.
+     * The elements are consumed one at a time, even if the {@code stream} is {@link Stream#parallel()}.
+     * @see #partition()
+     */
+    @NotNull
+    public static <A, B> Tuple2<List<A>, List<B>> partitionFailFast(
+          @NotNull Stream<? extends Either<? extends A, ? extends B>> stream,
+          int maxFailures
+    ) {
+        Preconditions.checkArgument(maxFailures >= 1, "maxFailures must be positive, but was %s", maxFailures);
+
+        var spliterator = stream.spliterator();
+        var partition   = Tuple.<List<A>, List<B>>of(new ArrayList<>(), new ArrayList<>());
+        //noinspection StatementWithEmptyBody
+        while (partition.b().size() < maxFailures && spliterator.tryAdvance(it -> partitionInto(partition, it))) {
+        }
+
+        return partition;
+    }
+
+    private static <A, B> void partitionInto(@NotNull Tuple2<List<A>, List<B>> partition, @NotNull Either<? extends A, ? extends B> either) {
+        if (either.hasA()) {
+            partition.a().add(either.unsafeA());
         } else {
-            return widen(ifB.apply(unsafeB()));
+            partition.b().add(either.unsafeB());
+        }
+    }
+
+    //endregion
+
+    //region Sequencing
+
+    /**
+     * Turns a bunch of {@link Either}s inside-out, collecting all of their {@link A}s - unless any of them {@link #hasB()}.
+     *
+     * @param eithers some {@link Either}s
+     * @return all of the {@link A}s, in order, <i>or</i> the first {@link B}
+     * @apiNote Iteration stops at the first {@link B}, so any later {@link Either}s in a lazy {@link Iterable} are never produced.
+     * @see #traverse(Iterable, Unchecked.Function)
+     */
+    @NotNull
+    public static <A, B> Either<@NotNull List<A>, @NotNull B> sequence(@NotNull Iterable<? extends Either<? extends A, ? extends B>> eithers) {
+        return traverse(eithers, it -> it);
+    }
+
+    /**
+     * Applies an {@link Either}-returning function to each item in turn, collecting all of the {@link A}s - unless any of them returns a {@link B}.
+     * <p>
+     * This is the same as {@link #sequence(Iterable)}-ing the results of the {@code function}, except that it stops calling the
+     * {@code function} as soon as it returns a {@link B}.
+     *
+     * @param items    the inputs to the {@code function}
+     * @param function produces an {@link Either} from each item
+     * @return all of the {@link A}s, in the same order as the {@code items}, <i>or</i> the first {@link B}
+     * @see #traverseParallel(Iterable, Unchecked.Function, Executor)
+     */
+    @NotNull
+    public static <T, A, B> Either<@NotNull List<A>, @NotNull B> traverse(
+          @NotNull Iterable<? extends T> items,
+          @NotNull Unchecked.Function<? super T, ? extends Either<? extends A, ? extends B>> function
+    ) {
+        Objects.requireNonNull(function);
+
+        var results = items instanceof Collection<?> collection ? new ArrayList<A>(collection.size()) : new ArrayList<A>();
+        for (T item : items) {
+            var either = function.apply(item);
+            if (either.hasB()) {
+                return ofB(either.unsafeB());
+            }
+            results.add(either.unsafeA());
+        }
+
+        return ofA(Collections.unmodifiableList(results));
+    }
+
+    /**
+     * Same as {@link #traverseParallel(Iterable, Unchecked.Function, Executor)}, running on a new virtual thread per item when they're available.
+     *
+     * @see VirtualThreads#executor()
+     */
+    @NotNull
+    public static <T, A, B> Either<@NotNull List<A>, @NotNull B> traverseParallel(
+          @NotNull Iterable<? extends T> items,
+          @NotNull Unchecked.Function<? super T, ? extends Either<? extends A, ? extends B>> function
+    ) throws InterruptedException {
+        return traverseParallel(items, function, VirtualThreads.executor());
+    }
+
+    /**
+     * Applies an {@link Either}-returning function to each item concurrently, collecting all of the {@link A}s - unless any of them returns a {@link B}.
+     * <p>
+     * As soon as <i>any</i> invocation returns a {@link B}, every invocation that's still pending is {@link Future#cancel(boolean) cancel}led
+     * <i>(interrupting it if it's already running)</i> and the {@link B} is returned without waiting for them.
+     *
+     * @param items    the inputs to the {@code function}
+     * @param function produces an {@link Either} from each item
+     * @param executor runs each invocation of the {@code function}
+     * @return all of the {@link A}s, in the same order as the {@code items}, <i>or</i> the first {@link B} to <i>arrive</i>
+     * @throws InterruptedException if this thread is interrupted while waiting, in which case all pending invocations are cancelled, too
+     * @implNote If the {@code function} throws an exception, all pending invocations are cancelled and the exception is {@link Unchecked#rethrow(Throwable)}n.
+     * @see #traverse(Iterable, Unchecked.Function)
+     */
+    @NotNull
+    public static <T, A, B> Either<@NotNull List<A>, @NotNull B> traverseParallel(
+          @NotNull Iterable<? extends T> items,
+          @NotNull Unchecked.Function<? super T, ? extends Either<? extends A, ? extends B>> function,
+          @NotNull Executor executor
+    ) throws InterruptedException {
+        Objects.requireNonNull(function);
+
+        var completions = new ExecutorCompletionService<Either<? extends A, ? extends B>>(executor);
+        var futures     = new ArrayList<Future<Either<? extends A, ? extends B>>>();
+        try {
+            for (T item : items) {
+                futures.add(completions.submit(() -> function.apply(item)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                var either = completions.take().get();
+                if (either.hasB()) {
+                    return ofB(either.unsafeB());
+                }
+            }
+
+            // Everything has already completed, so these won't block
+            var results = new ArrayList<A>(futures.size());
+            for (var future : futures) {
+                results.add(future.get().unsafeA());
+            }
+            return ofA(Collections.unmodifiableList(results));
+        } catch (ExecutionException e) {
+            return Unchecked.rethrow(e.getCause());
+        } finally {
+            futures.forEach(it -> it.cancel(true));
         }
     }
 
@@ -549,7 +792,7 @@ public final class Either<A, B> {
         }
 
         if (obj instanceof Either<?, ?> other) {
-            return (hasA == other.hasA) && value.equals(other.value);
+            return getClass() == other.getClass() && value.equals(other.value);
         }
 
         return false;
@@ -583,10 +826,10 @@ public final class Either<A, B> {
             return false;
         }
 
-        if (first.hasA) {
-            return second.hasA && ifA.equivalent(first.unsafeA(), second.unsafeA());
+        if (first.hasA()) {
+            return second.hasA() && ifA.equivalent(first.unsafeA(), second.unsafeA());
         } else {
-            return !second.hasA && ifB.equivalent(first.unsafeB(), second.unsafeB());
+            return second.hasB() && ifB.equivalent(first.unsafeB(), second.unsafeB());
         }
     }
 
@@ -618,10 +861,10 @@ public final class Either<A, B> {
             return false;
         }
 
-        if (hasA) {
-            return other.hasA && ifA.equivalent(unsafeA(), other.unsafeA());
+        if (hasA()) {
+            return other.hasA() && ifA.equivalent(unsafeA(), other.unsafeA());
         } else {
-            return !other.hasA && ifB.equivalent(unsafeB(), other.unsafeB());
+            return other.hasB() && ifB.equivalent(unsafeB(), other.unsafeB());
         }
     }
 
@@ -636,4 +879,234 @@ public final class Either<A, B> {
     }
 
     //endregion
+
+    //region Implementations
+
+    /**
+     * An {@link Either} that {@link #hasA()}.
+     */
+    public static final class OfA<A, B> extends Either<A, B> {
+        private OfA(@NotNull A a) {
+            super(a);
+        }
+
+        @Override
+        public boolean hasA() {
+            return true;
+        }
+
+        @Override
+        public boolean hasB() {
+            return false;
+        }
+
+        @Override
+        public @NotNull Which hasWhich() {
+            return Which.A;
+        }
+
+        @Override
+        public @NotNull A getValue() {
+            return unsafeA();
+        }
+
+        @Override
+        public @NotNull A getA() {
+            return unsafeA();
+        }
+
+        @Override
+        public @NotNull B getB() {
+            throw new NoSuchElementException(
+                  String.format("Can't get 🅱 because this %s contains 🅰 (%s)!", Either.class.getSimpleName(), unsafeA()));
+        }
+
+        @Override
+        public @NotNull Optional<A> tryGetA() {
+            return Optional.of(unsafeA());
+        }
+
+        @Override
+        public @NotNull Optional<B> tryGetB() {
+            return Optional.empty();
+        }
+
+        @Override
+        public @NotNull Stream<@NotNull A> streamA() {
+            return Stream.of(unsafeA());
+        }
+
+        @Override
+        public @NotNull Stream<@NotNull B> streamB() {
+            return Stream.empty();
+        }
+
+        @Override
+        public <T> T handle(
+              @NotNull Function<? super @NotNull A, ? extends T> ifA,
+              @NotNull Function<? super @NotNull B, ? extends T> ifB
+        ) {
+            return ifA.apply(unsafeA());
+        }
+
+        @Override
+        public A toA(@NotNull Function<? super @NotNull B, ? extends A> ifB) {
+            return unsafeA();
+        }
+
+        @Override
+        public B toB(@NotNull Function<? super @NotNull A, ? extends B> ifA) {
+            return ifA.apply(unsafeA());
+        }
+
+        @Override
+        public <A2, B2> Either<@NotNull A2, @NotNull B2> map(
+              @NotNull Function<? super @NotNull A, ? extends @NotNull A2> ifA,
+              @NotNull Function<? super @NotNull B, ? extends @NotNull B2> ifB
+        ) {
+            return Either.ofA(ifA.apply(unsafeA()));
+        }
+
+        @Override
+        public <A2> Either<A2, B> mapA(@NotNull Function<? super @NotNull A, ? extends @NotNull A2> ifA) {
+            return Either.ofA(ifA.apply(unsafeA()));
+        }
+
+        @Override
+        public <B2> Either<A, B2> mapB(@NotNull Function<? super @NotNull B, ? extends @NotNull B2> ifB) {
+            return Unchecked.cast(this);
+        }
+
+        @Override
+        public <A2> Either<A2, B> flatMapA(Function<? super @NotNull A, ? extends Either<? extends A2, ? extends @NotNull B>> ifA) {
+            return widen(ifA.apply(unsafeA()));
+        }
+
+        @Override
+        public <B2> Either<A, B2> flatMapB(Function<? super @NotNull B, ? extends Either<A, ? extends @NotNull B2>> ifB) {
+            return Unchecked.cast(this);
+        }
+
+        @NotNull
+        @Override
+        @Contract(pure = true)
+        public String toString() {
+            return "🅰 " + unsafeA();
+        }
+    }
+
+    /**
+     * An {@link Either} that {@link #hasB()}.
+     */
+    public static final class OfB<A, B> extends Either<A, B> {
+        private OfB(@NotNull B b) {
+            super(b);
+        }
+
+        @Override
+        public boolean hasA() {
+            return false;
+        }
+
+        @Override
+        public boolean hasB() {
+            return true;
+        }
+
+        @Override
+        public @NotNull Which hasWhich() {
+            return Which.B;
+        }
+
+        @Override
+        public @NotNull B getValue() {
+            return unsafeB();
+        }
+
+        @Override
+        public @NotNull A getA() {
+            throw new NoSuchElementException(
+                  String.format("Can't get 🅰 because this %s contains 🅱 (%s)!", Either.class.getSimpleName(), unsafeB()));
+        }
+
+        @Override
+        public @NotNull B getB() {
+            return unsafeB();
+        }
+
+        @Override
+        public @NotNull Optional<A> tryGetA() {
+            return Optional.empty();
+        }
+
+        @Override
+        public @NotNull Optional<B> tryGetB() {
+            return Optional.of(unsafeB());
+        }
+
+        @Override
+        public @NotNull Stream<@NotNull A> streamA() {
+            return Stream.empty();
+        }
+
+        @Override
+        public @NotNull Stream<@NotNull B> streamB() {
+            return Stream.of(unsafeB());
+        }
+
+        @Override
+        public <T> T handle(
+              @NotNull Function<? super @NotNull A, ? extends T> ifA,
+              @NotNull Function<? super @NotNull B, ? extends T> ifB
+        ) {
+            return ifB.apply(unsafeB());
+        }
+
+        @Override
+        public A toA(@NotNull Function<? super @NotNull B, ? extends A> ifB) {
+            return ifB.apply(unsafeB());
+        }
+
+        @Override
+        public B toB(@NotNull Function<? super @NotNull A, ? extends B> ifA) {
+            return unsafeB();
+        }
+
+        @Override
+        public <A2, B2> Either<@NotNull A2, @NotNull B2> map(
+              @NotNull Function<? super @NotNull A, ? extends @NotNull A2> ifA,
+              @NotNull Function<? super @NotNull B, ? extends @NotNull B2> ifB
+        ) {
+            return Either.ofB(ifB.apply(unsafeB()));
+        }
+
+        @Override
+        public <A2> Either<A2, B> mapA(@NotNull Function<? super @NotNull A, ? extends @NotNull A2> ifA) {
+            return Unchecked.cast(this);
+        }
+
+        @Override
+        public <B2> Either<A, B2> mapB(@NotNull Function<? super @NotNull B, ? extends @NotNull B2> ifB) {
+            return Either.ofB(ifB.apply(unsafeB()));
+        }
+
+        @Override
+        public <A2> Either<A2, B> flatMapA(Function<? super @NotNull A, ? extends Either<? extends A2, ? extends @NotNull B>> ifA) {
+            return Unchecked.cast(this);
+        }
+
+        @Override
+        public <B2> Either<A, B2> flatMapB(Function<? super @NotNull B, ? extends Either<A, ? extends @NotNull B2>> ifB) {
+            return widen(ifB.apply(unsafeB()));
+        }
+
+        @NotNull
+        @Override
+        @Contract(pure = true)
+        public String toString() {
+            return "🅱 " + unsafeB();
+        }
+    }
+
+    //endregion
 }
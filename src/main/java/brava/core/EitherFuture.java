@@ -0,0 +1,368 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * An {@link Either} that will be available <i>later</i>.
+ * <p>
+ * Failures are just {@link B} values, so unlike a plain {@link CompletableFuture} you never have to {@link CompletableFuture#handle} them
+ * by hand - and I can offer combinators that a plain {@link CompletableFuture} can't, like {@link #firstSuccess(Collection)} and
+ * {@link #hedge(Unchecked.Supplier, Duration, int, Executor)}.
+ *
+ * @param <A> one possibility
+ * @param <B> an alternate universe
+ * @apiNote My transformations <i>(e.g. {@link #mapA(Function)})</i> run on whichever thread completes me - or immediately, on the calling thread,
+ * if I'm already done - so composing them doesn't cost any extra thread hops.
+ * As a consequence, they should be quick and non-blocking.
+ * @implNote My underlying {@link CompletableFuture} only ever completes exceptionally if one of your transformation functions throws.
+ */
+public final class EitherFuture<A, B> {
+    private final @NotNull CompletableFuture<Either<A, B>> future;
+
+    private EitherFuture(@NotNull CompletableFuture<Either<A, B>> future) {
+        this.future = future;
+    }
+
+    //region Factories
+
+    /**
+     * Invokes {@code supplier} on a new <a href="https://openjdk.org/jeps/444">virtual thread</a>, capturing its result like {@link Either#resultOf(Unchecked.Supplier)}.
+     *
+     * @param supplier some code that might throw a {@link Throwable}
+     * @return a new {@link EitherFuture} containing the resulting {@link T} OR the thrown {@link Throwable}
+     * @apiNote If the current JVM doesn't support virtual threads, the {@link java.util.concurrent.ForkJoinPool#commonPool()} is used instead.
+     */
+    @Contract("_ -> new")
+    public static <T> @NotNull EitherFuture<@NotNull T, @NotNull Throwable> resultOf(@NotNull Unchecked.Supplier<? extends @NotNull T> supplier) {
+        return resultOf(supplier, VirtualThreads.executor());
+    }
+
+    /**
+     * Invokes {@code supplier} on the given {@link Executor}, capturing its result like {@link Either#resultOf(Unchecked.Supplier)}.
+     *
+     * @param supplier some code that might throw a {@link Throwable}
+     * @param executor where the {@code supplier} will be invoked
+     * @return a new {@link EitherFuture} containing the resulting {@link T} OR the thrown {@link Throwable}
+     * @apiNote If the {@code executor} rejects the task, the {@link java.util.concurrent.RejectedExecutionException} becomes my {@link B}.
+     */
+    @Contract("_, _ -> new")
+    public static <T> @NotNull EitherFuture<@NotNull T, @NotNull Throwable> resultOf(
+          @NotNull Unchecked.Supplier<? extends @NotNull T> supplier,
+          @NotNull Executor executor
+    ) {
+        Objects.requireNonNull(supplier, "supplier");
+        var future = new CompletableFuture<Either<T, Throwable>>();
+        completeOn(executor, future, supplier);
+        return new EitherFuture<>(future);
+    }
+
+    /**
+     * Converts an existing {@link CompletionStage}, whose exceptions <i>(unwrapped from any {@link CompletionException})</i> become my {@link B}.
+     *
+     * @param stage something that will produce a {@link T}
+     * @return a new {@link EitherFuture} containing the resulting {@link T} OR the {@link Throwable} that {@code stage} failed with
+     */
+    @Contract("_ -> new")
+    public static <T> @NotNull EitherFuture<@NotNull T, @NotNull Throwable> from(@NotNull CompletionStage<? extends @NotNull T> stage) {
+        return new EitherFuture<>(
+              stage.<Either<T, Throwable>>handle((value, e) -> e == null ? Either.ofNullable(value, null) : Either.ofB(unwrap(e)))
+                   .toCompletableFuture()
+        );
+    }
+
+    /**
+     * @param either an {@link Either} that's already available
+     * @return a new {@link EitherFuture} that is already {@link #isDone()}
+     */
+    @Contract("_ -> new")
+    public static <A, B> @NotNull EitherFuture<A, B> of(@NotNull Either<A, B> either) {
+        return new EitherFuture<>(CompletableFuture.completedFuture(Objects.requireNonNull(either, "either")));
+    }
+
+    private static <T> void completeOn(
+          @NotNull Executor executor,
+          @NotNull CompletableFuture<Either<T, Throwable>> target,
+          @NotNull Unchecked.Supplier<? extends @NotNull T> supplier
+    ) {
+        try {
+            executor.execute(() -> {
+                try {
+                    target.complete(Either.resultOf(supplier));
+                } catch (Throwable e) {
+                    // i.e. the supplier returned null
+                    target.completeExceptionally(e);
+                }
+            });
+        } catch (Throwable e) {
+            // e.g. a RejectedExecutionException
+            target.complete(Either.ofB(e));
+        }
+    }
+
+    private static @NotNull Throwable unwrap(@NotNull Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    //endregion
+
+    //region Transforming
+
+    /**
+     * @see Either#mapA(Function)
+     */
+    @Contract("_ -> new")
+    public <A2> @NotNull EitherFuture<A2, B> mapA(@NotNull Function<? super @NotNull A, ? extends @NotNull A2> ifA) {
+        return new EitherFuture<>(future.thenApply(it -> it.mapA(ifA)));
+    }
+
+    /**
+     * @see Either#mapB(Function)
+     */
+    @Contract("_ -> new")
+    public <B2> @NotNull EitherFuture<A, B2> mapB(@NotNull Function<? super @NotNull B, ? extends @NotNull B2> ifB) {
+        return new EitherFuture<>(future.thenApply(it -> it.mapB(ifB)));
+    }
+
+    /**
+     * Chains another asynchronous step that only runs if I {@link Either#hasA()}.
+     *
+     * @param ifA if I {@link Either#hasA()}, this starts the next step
+     * @return a new {@link EitherFuture} with the result of the next step, or my {@link B}
+     * @see Either#flatMapA(Function)
+     */
+    @Contract("_ -> new")
+    public <A2> @NotNull EitherFuture<A2, B> flatMapA(
+          @NotNull Function<? super @NotNull A, ? extends EitherFuture<? extends A2, ? extends @NotNull B>> ifA
+    ) {
+        return new EitherFuture<>(future.thenCompose(it -> {
+            if (it.hasA()) {
+                EitherFuture<? extends A2, ? extends B> next = ifA.apply(it.unsafeA());
+                return Unchecked.cast(next.future);
+            }
+            return CompletableFuture.completedFuture(Unchecked.cast(it));
+        }));
+    }
+
+    /**
+     * @see Either#handle(Function, Function)
+     */
+    @Contract("_, _ -> new")
+    public <T> @NotNull CompletableFuture<T> handle(
+          @NotNull Function<? super @NotNull A, ? extends T> ifA,
+          @NotNull Function<? super @NotNull B, ? extends T> ifB
+    ) {
+        return future.thenApply(it -> it.handle(ifA, ifB));
+    }
+
+    //endregion
+
+    //region Combining
+
+    /**
+     * Waits for all of the {@code futures} to produce an {@link A} - unless any of them produces a {@link B}, in which case I complete immediately,
+     * without waiting for the others.
+     *
+     * @param futures some {@link EitherFuture}s
+     * @return all of the {@link A}s, in the same order as the {@code futures}, <i>or</i> the first {@link B} to arrive
+     * @see Either#sequence(Iterable)
+     */
+    @Contract("_ -> new")
+    public static <A, B> @NotNull EitherFuture<@NotNull @Unmodifiable List<A>, B> allOf(
+          @NotNull Collection<? extends EitherFuture<? extends A, ? extends B>> futures
+    ) {
+        var inputs    = List.<EitherFuture<? extends A, ? extends B>>copyOf(futures);
+        var result    = new CompletableFuture<Either<List<A>, B>>();
+        var remaining = new AtomicInteger(inputs.size());
+
+        if (inputs.isEmpty()) {
+            result.complete(Either.ofA(List.of()));
+        }
+
+        for (var input : inputs) {
+            input.future.whenComplete((either, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(unwrap(e));
+                } else if (either.hasB()) {
+                    result.complete(Either.ofB(either.unsafeB()));
+                } else if (remaining.decrementAndGet() == 0) {
+                    var values = new ArrayList<A>(inputs.size());
+                    for (var it : inputs) {
+                        values.add(it.future.join().unsafeA());
+                    }
+                    result.complete(Either.ofA(Collections.unmodifiableList(values)));
+                }
+            });
+        }
+
+        return new EitherFuture<>(result);
+    }
+
+    /**
+     * Races the {@code futures} against each other: the first one to produce an {@link A} wins, and I complete immediately, without
+     * waiting for the others.
+     *
+     * @param futures some {@link EitherFuture}s, e.g. the same request sent to different replicas
+     * @return the first {@link A} to arrive, <i>or</i> all of the {@link B}s, in the same order as the {@code futures}
+     * @see #hedge(Unchecked.Supplier, Duration, int, Executor)
+     */
+    @Contract("_ -> new")
+    public static <A, B> @NotNull EitherFuture<A, @NotNull @Unmodifiable List<B>> firstSuccess(
+          @NotNull Collection<? extends EitherFuture<? extends A, ? extends B>> futures
+    ) {
+        var inputs    = List.<EitherFuture<? extends A, ? extends B>>copyOf(futures);
+        var result    = new CompletableFuture<Either<A, List<B>>>();
+        var remaining = new AtomicInteger(inputs.size());
+        Preconditions.checkArgument(!inputs.isEmpty(), "I need at least one future to race!");
+
+        for (var input : inputs) {
+            input.future.whenComplete((either, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(unwrap(e));
+                } else if (either.hasA()) {
+                    result.complete(Either.ofA(either.unsafeA()));
+                } else if (remaining.decrementAndGet() == 0) {
+                    var failures = new ArrayList<B>(inputs.size());
+                    for (var it : inputs) {
+                        failures.add(it.future.join().unsafeB());
+                    }
+                    result.complete(Either.ofB(Collections.unmodifiableList(failures)));
+                }
+            });
+        }
+
+        return new EitherFuture<>(result);
+    }
+
+    /**
+     * Cuts down on tail latency by sending "backup" requests:
+     * <ul>
+     *     <li>The {@code supplier} is invoked right away.</li>
+     *     <li>If nothing has succeeded after {@code delay}, it is invoked <i>again</i>, without cancelling the first attempt.</li>
+     *     <li>...and so on, every {@code delay}, up to {@code attempts} times in total.</li>
+     * </ul>
+     * The first attempt to succeed wins; attempts that haven't started yet by then are skipped.
+     *
+     * @param supplier some code that might throw a {@link Throwable}, which must be safe to invoke more than once
+     * @param delay    how long to wait for each attempt before starting the next one
+     * @param attempts the maximum number of attempts, including the first one
+     * @param executor where the {@code supplier} will be invoked
+     * @return the first {@link T} to arrive, <i>or</i> the {@link Throwable}s from every attempt
+     * @apiNote Hedging is about <i>slow</i> attempts, not failing ones - a failed attempt doesn't make the next one start any sooner.
+     * If you want to retry failures, use {@link RetryPolicy} instead.
+     * @see <a href="https://research.google/pubs/the-tail-at-scale/">The Tail at Scale</a>
+     */
+    @Contract("_, _, _, _ -> new")
+    public static <T> @NotNull EitherFuture<@NotNull T, @NotNull @Unmodifiable List<Throwable>> hedge(
+          @NotNull Unchecked.Supplier<? extends @NotNull T> supplier,
+          @NotNull Duration delay,
+          int attempts,
+          @NotNull Executor executor
+    ) {
+        Objects.requireNonNull(supplier, "supplier");
+        Preconditions.checkArgument(!delay.isNegative(), "The delay can't be negative, but was %s", delay);
+        Preconditions.checkArgument(attempts >= 1, "I need to make at least 1 attempt, but you asked for %s", attempts);
+
+        var futures = new ArrayList<CompletableFuture<Either<T, Throwable>>>(attempts);
+        for (int i = 0; i < attempts; i++) {
+            futures.add(new CompletableFuture<>());
+        }
+
+        var race = EitherFuture.<T, Throwable>firstSuccess(futures.stream().map(EitherFuture::new).toList());
+
+        for (int i = 0; i < attempts; i++) {
+            var startAfter = delay.multipliedBy(i);
+            var runOn      = i == 0 ? executor : CompletableFuture.delayedExecutor(startAfter.toNanos(), TimeUnit.NANOSECONDS, executor);
+            completeOn(runOn, futures.get(i), () -> {
+                if (race.isDone()) {
+                    throw new CancellationException("Another attempt already succeeded");
+                }
+                return supplier.getChecked();
+            });
+        }
+
+        return race;
+    }
+
+    /**
+     * Same as {@link #hedge(Unchecked.Supplier, Duration, int, Executor)}, running each attempt on a new virtual thread when they're available.
+     */
+    @Contract("_, _, _ -> new")
+    public static <T> @NotNull EitherFuture<@NotNull T, @NotNull @Unmodifiable List<Throwable>> hedge(
+          @NotNull Unchecked.Supplier<? extends @NotNull T> supplier,
+          @NotNull Duration delay,
+          int attempts
+    ) {
+        return hedge(supplier, delay, attempts, VirtualThreads.executor());
+    }
+
+    //endregion
+
+    //region Waiting
+
+    /**
+     * @return {@code true} if my {@link Either} is available
+     */
+    @Contract(pure = true)
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Blocks until my {@link Either} is available.
+     *
+     * @return my {@link Either}
+     * @apiNote If one of your transformation functions threw an exception, it will be {@link Unchecked#rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+     */
+    public @NotNull Either<A, B> join() {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return Unchecked.rethrow(unwrap(e));
+        }
+    }
+
+    /**
+     * @return a new {@link CompletableFuture} that completes with my {@link Either}
+     * @apiNote This is a {@link CompletableFuture#copy()}, so completing or cancelling it won't affect me.
+     */
+    @Contract("-> new")
+    public @NotNull CompletableFuture<Either<A, B>> toCompletableFuture() {
+        return future.copy();
+    }
+
+    //endregion
+
+    /**
+     * @return "⏳" while I'm pending; once I'm {@link #isDone()}, my {@link Either}
+     */
+    @Override
+    public String toString() {
+        if (!future.isDone()) {
+            return "⏳";
+        }
+
+        try {
+            return String.valueOf(future.join());
+        } catch (CompletionException | CancellationException e) {
+            return "💥 " + unwrap(e);
+        }
+    }
+}
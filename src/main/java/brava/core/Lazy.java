@@ -7,8 +7,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -23,15 +27,16 @@ import java.util.function.Supplier;
  * @implSpec This class is guaranteed to only ever invoke the {@link Unchecked.Supplier} that generates the {@link T} <i>at most once</i>. This means
  * that:
  * <ul>
- *     <li>The supplier invocation must be
- *     <a href="https://docs.oracle.com/javase/tutorial/essential/concurrency/locksync.html">synchronized</a>.</li>
+ *     <li>The supplier invocation must be guarded by a {@link ReentrantLock}, rather than a {@code synchronized} block.
+ *     This way, a <a href="https://openjdk.org/jeps/444">virtual thread</a> waiting on a slow supplier is parked instead of
+ *     <a href="https://openjdk.org/jeps/444#Pinning">pinning</a> its carrier thread.</li>
  *     <li>If the supplier throws an exception, then that exception should be re-thrown whenever {@link #get()} <i>(or {@link #getChecked()})</i> is called in the
  *     future.</li>
  *     <li>Once {@link #get()} <i>(or {@link #getChecked()})</i> has been called, no references to the {@link Unchecked.Supplier} should remain. This ensures that any references captured by the {@link Unchecked.Supplier} have been freed.</li>
  * </ul>
  */
 public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
-    private static final String NULL_VALUE_MESSAGE = "A Lazy instance cannot contain a null value! Consider using Lazy.ofNullable() instead.";
+    static final String NULL_VALUE_MESSAGE = "A Lazy instance cannot contain a null value! Consider using Lazy.ofNullable() instead.";
 
     /**
      * Describes what's going on inside of a {@link Lazy}
@@ -47,6 +52,8 @@ public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
         DONE,
         /**
          * I tried to generate my value, but threw an exception.
+         * <p>
+         * If I was created with a {@link RetryPolicy}, I might try again later - see {@link #willRetry()}.
          */
         FAILED
     }
@@ -56,7 +63,8 @@ public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
      * <ul>
      *     <li>{@link State#FRESH} ⇒ the {@link Supplier} that generates my {@link T}</li>
      *     <li>{@link State#DONE} ⇒ my {@link T}</li>
-     *     <li>{@link State#FAILED} ⇒ the {@link Throwable} thrown by my supplier</li>
+     *     <li>{@link State#FAILED} ⇒ the {@link Throwable} thrown by my supplier, <i>unless</i> I have a {@link #retry}, in which case
+     *     this is still the {@link Supplier} <i>(and the {@link Throwable} is stored in the {@link #retry})</i></li>
      * </ul>
      *
      * @implNote While there are theoretical benefits to having an object with fewer fields, the primary purpose of re-using {@link #myObject}
@@ -69,8 +77,67 @@ public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
      * the {@link Supplier} was referring to.
      */
     @Nullable
-    private                   Object myObject;
-    private volatile @NotNull State  state = State.FRESH;
+    private                   Object                 myObject;
+    private volatile @NotNull State                  state = State.FRESH;
+    /**
+     * Guards the invocation of my {@link Supplier} while I'm {@link State#FRESH} <i>(or {@link State#FAILED} but still able to {@link #retry})</i>,
+     * and is {@code null} otherwise.
+     *
+     * @implNote We use a {@link ReentrantLock} instead of {@code synchronized (this)} because, until
+     * <a href="https://openjdk.org/jeps/491">JEP 491</a>, a virtual thread that blocks while holding <i>(or waiting for)</i> a monitor
+     * pins its carrier thread.
+     * <p>
+     * Once I'm done invoking my {@link Supplier}, we forget about the lock so that it can be garbage collected - any threads that were already waiting on it
+     * will still have their own reference.
+     */
+    @Nullable
+    private volatile          ReentrantLock          lock;
+    /**
+     * Keeps track of my failed attempts if I was created with a {@link RetryPolicy}; otherwise, {@code null}.
+     */
+    @Nullable
+    private final             Retry                  retry;
+    /**
+     * Records statistics about my initialization if I was {@link #instrumented(String, Unchecked.Supplier)}; otherwise, {@code null}.
+     *
+     * @implNote This is only ever checked while I'm <i>not</i> {@link State#DONE}, so it doesn't slow down {@link #get()} once I've been computed.
+     */
+    @Nullable
+    private final             LazyTelemetry.Recorder telemetry;
+
+    /**
+     * The bookkeeping for a {@link Lazy} with a {@link RetryPolicy}.
+     *
+     * @implNote Only modified while holding the {@link #lock}.
+     * The {@link #lastFailure} is stored here, rather than in {@link #myObject}, because a {@link State#FAILED} {@link Lazy} can become
+     * {@link State#DONE}; if the {@link Throwable} were stored in {@link #myObject}, a thread that saw {@link State#FAILED} might then read
+     * my {@link T} and try to {@code throw} it.
+     */
+    private static final class Retry {
+        private final    RetryPolicy policy;
+        private volatile int         failures;
+        private volatile long        retryAtNanos;
+        @Nullable
+        private volatile Throwable   lastFailure;
+
+        private Retry(@NotNull RetryPolicy policy) {
+            this.policy = policy;
+        }
+
+        private void recordFailure(@NotNull Throwable exception) {
+            lastFailure  = exception;
+            retryAtNanos = System.nanoTime() + policy.backoffNanos(failures + 1);
+            failures     = failures + 1;
+        }
+
+        private boolean canRetry() {
+            return policy.canRetry(failures);
+        }
+
+        private boolean isDue() {
+            return canRetry() && System.nanoTime() - retryAtNanos >= 0;
+        }
+    }
 
     //region Factories
 
@@ -103,6 +170,121 @@ public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
         return of(() -> Optional.ofNullable(supplier.get()));
     }
 
+    /**
+     * Creates a new {@link Lazy} that, rather than caching a failure forever, invokes the {@code supplier} again according to a {@link RetryPolicy}.
+     * <p>
+     * After a failure, the exception is re-thrown <i>without</i> invoking the {@code supplier} until the {@link RetryPolicy#backoff(int)} has elapsed;
+     * this way, a failing {@code supplier} isn't hammered by every caller.
+     * Once the {@link RetryPolicy#maxAttempts()} have been used up, I stay {@link State#FAILED} forever, just like a normal {@link Lazy}.
+     *
+     * @param supplier    the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param retryPolicy how many times to invoke the {@code supplier}, and how long to wait in between
+     * @param <T>         the type of my value
+     * @return a new {@link Lazy}
+     * @apiNote Unlike {@link #of(Unchecked.Supplier)}, my {@code supplier} might be invoked more than once <i>(though never concurrently)</i>.
+     * @see #failures()
+     * @see #willRetry()
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> Lazy<T> of(@NotNull Unchecked.Supplier<@NotNull T> supplier, @NotNull RetryPolicy retryPolicy) {
+        return new Lazy<>(supplier, new Retry(Objects.requireNonNull(retryPolicy, "retryPolicy")));
+    }
+
+    /**
+     * Creates a new {@link Lazy} whose initialization is recorded by {@link LazyTelemetry} under the given {@code name}.
+     * <p>
+     * The recorded statistics include how long my supplier took, whether it failed, and how long other threads spent waiting for it;
+     * they're aggregated across every {@link Lazy} with the same {@code name}, and also emitted as JDK Flight Recorder events.
+     *
+     * @param name     the key for my statistics in {@link LazyTelemetry#stats(String)}
+     * @param supplier the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param <T>      the type of my value
+     * @return a new {@link Lazy}
+     * @apiNote Instrumentation only affects the first computation; once I'm {@link State#DONE}, {@link #get()} costs exactly the same as an
+     * un-instrumented {@link Lazy}.
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> Lazy<T> instrumented(@NotNull String name, @NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        return new Lazy<>(supplier, null, LazyTelemetry.recorder(name));
+    }
+
+    /**
+     * Creates a new {@link RacyLazy}, which never locks, but might invoke the {@code supplier} more than once if multiple threads call
+     * {@link RacyLazy#get()} at the same time.
+     *
+     * @param supplier the <b><i>idempotent</i></b> code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param <T>      the type of my value
+     * @return a new {@link RacyLazy}
+     * @apiNote Only use this for cheap, side-effect-free suppliers, where a duplicate computation costs less than acquiring a lock.
+     * Otherwise, use {@link #of(Unchecked.Supplier)}.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> RacyLazy<T> racy(@NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        return new RacyLazy<>(supplier);
+    }
+
+    /**
+     * Creates a new {@link StableLazy}, whose value can be constant-folded by the JIT compiler once it has been computed.
+     *
+     * @param supplier the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param <T>      the type of my value
+     * @return a new {@link StableLazy}
+     * @apiNote This is only worthwhile for {@code static final} fields that are read on hot paths. See {@link StableLazy} for details.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> StableLazy<T> stable(@NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        return CallSiteLazy.of(supplier);
+    }
+
+    /**
+     * Creates a new {@link ReclaimableLazy} that holds its value via a {@link java.lang.ref.SoftReference}, so that the garbage collector
+     * can reclaim it when memory is running low.
+     *
+     * @param supplier the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param <T>      the type of my value
+     * @return a new {@link ReclaimableLazy}
+     * @apiNote Unlike {@link #of(Unchecked.Supplier)}, my {@code supplier} is invoked again each time my value is reclaimed.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> ReclaimableLazy<T> soft(@NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        return ReclaimableLazy.soft(supplier);
+    }
+
+    /**
+     * Creates a new {@link ReclaimableLazy} that holds its value via a {@link java.lang.ref.WeakReference}, so that the garbage collector
+     * can reclaim it as soon as nobody else is using it.
+     *
+     * @param supplier the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param <T>      the type of my value
+     * @return a new {@link ReclaimableLazy}
+     * @apiNote Unlike {@link #of(Unchecked.Supplier)}, my {@code supplier} is invoked again each time my value is reclaimed.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> ReclaimableLazy<T> weak(@NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        return ReclaimableLazy.weak(supplier);
+    }
+
+    /**
+     * Memoizes a {@link Unchecked.Function}, so that its result for each input is computed <i>at most once</i>.
+     *
+     * @param function the code that generates a <b><i>non-null</i></b> {@link V} for each {@link K}
+     * @param <K>      the input type
+     * @param <V>      the output type
+     * @return a new, unbounded {@link LazyMap}
+     * @apiNote To bound the size of the memoized results, use {@link LazyMap#of(Unchecked.Function, long)} instead.
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public static <K, V> LazyMap<K, V> memoize(@NotNull Unchecked.Function<? super K, ? extends V> function) {
+        return LazyMap.of(function);
+    }
+
     /**
      * Creates a new {@link Lazy} with a {@link T} that's been pre-initialized.
      *
@@ -195,20 +377,37 @@ public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
 
     @Contract(pure = true)
     private Lazy(@NotNull Unchecked.Supplier<T> supplier) {
-        this.myObject = supplier;
-        this.state    = State.FRESH;
+        this(supplier, null);
+    }
+
+    @Contract(pure = true)
+    private Lazy(@NotNull Unchecked.Supplier<T> supplier, @Nullable Retry retry) {
+        this(supplier, retry, null);
+    }
+
+    @Contract(pure = true)
+    private Lazy(@NotNull Unchecked.Supplier<T> supplier, @Nullable Retry retry, @Nullable LazyTelemetry.Recorder telemetry) {
+        this.myObject  = supplier;
+        this.state     = State.FRESH;
+        this.lock      = new ReentrantLock();
+        this.retry     = retry;
+        this.telemetry = telemetry;
     }
 
     @Contract(pure = true)
     private Lazy(@NotNull T value) {
-        this.myObject = value;
-        this.state    = State.DONE;
+        this.myObject  = value;
+        this.state     = State.DONE;
+        this.retry     = null;
+        this.telemetry = null;
     }
 
     @Contract(pure = true)
     private Lazy(@NotNull Throwable exception) {
-        this.myObject = exception;
-        this.state    = State.FAILED;
+        this.myObject  = exception;
+        this.state     = State.FAILED;
+        this.retry     = null;
+        this.telemetry = null;
     }
 
     //endregion
@@ -216,12 +415,15 @@ public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
     //region `currentValue` getters
 
     private Supplier<T> getSupplier() {
-        assert state == State.FRESH;
+        assert state == State.FRESH || retry != null;
         return Unchecked.cast(myObject);
     }
 
     private Throwable getException() {
         assert state == State.FAILED;
+        if (retry != null) {
+            return Objects.requireNonNull(retry.lastFailure);
+        }
         return Unchecked.cast(myObject);
     }
 
@@ -232,13 +434,244 @@ public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
 
     //endregion
 
+    //region Combinators
+
+    /**
+     * The supplier of a {@link Lazy} created by one of my combinators.
+     * <p>
+     * Nobody outside of {@link Lazy} can get their hands on one of these, so a {@link Fused} can never be anybody's <i>value</i>.
+     * That means that if we find one in a {@link Lazy}'s {@link #myObject}, it must be that {@link Lazy}'s supplier, even if somebody
+     * else computed it while we were looking.
+     */
+    @FunctionalInterface
+    private interface Fused<T> extends Unchecked.Supplier<T> {
+    }
+
+    /**
+     * Gets something that produces my value for a {@link Lazy} derived from me.
+     * <ul>
+     *     <li>If I'm {@link State#DONE}, that's just my value, so the derived {@link Lazy} never refers to me.</li>
+     *     <li>If I'm a {@link Fused} {@link Lazy} that hasn't been computed yet, that's my supplier, so that a whole chain of combinators
+     *     runs as a single computation under the lock of the {@link Lazy} at the end of it.
+     *     I'm only skipped while I'm {@link State#FRESH}; once I've been computed, my own result is used instead.</li>
+     *     <li>Otherwise, that's {@link #getChecked()}, which respects my own lock <i>(and {@link RetryPolicy}, and {@link LazyTelemetry})</i>.</li>
+     * </ul>
+     */
+    private @NotNull Unchecked.Supplier<T> source() {
+        var state = this.state;
+        if (state == State.DONE) {
+            var value = getValue();
+            return () -> value;
+        }
+
+        if (state == State.FRESH && retry == null && telemetry == null && myObject instanceof Fused<?> fused) {
+            Fused<T> supplier = Unchecked.cast(fused);
+            return () -> this.state == State.FRESH ? supplier.getChecked() : getChecked();
+        }
+
+        return this::getChecked;
+    }
+
+    /**
+     * Creates a new {@link Lazy} whose value is derived from mine.
+     *
+     * @param mapper the code that transforms my {@link T} into a <b><i>non-null</i></b> {@link R}
+     * @param <R>    the type of the new value
+     * @return a new {@link Lazy} that will invoke {@code mapper} at most once
+     * @apiNote If I throw an exception, the new {@link Lazy} re-throws it without invoking {@code mapper}.
+     * <p>
+     * If I was created by a combinator too, and I haven't been computed yet, the new {@link Lazy} computes my value itself rather than
+     * going through me. If you {@link #get()} both of us, my {@code mapper} might be invoked once for each of us <i>(but never more than
+     * once for the same {@link Lazy})</i>.
+     * @implNote A chain of combinators is fused into a single supplier, so computing the {@link Lazy} at the end of the chain only takes its
+     * own lock, plus the lock of the original {@link Lazy} at the start of the chain if that hasn't been computed yet.
+     * The new {@link Lazy} forgets about that supplier <i>(and therefore about me and the {@code mapper})</i> once it has been computed.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public <R> @NotNull Lazy<R> map(@NotNull Unchecked.Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        var source = source();
+        return fused(() -> mapper.applyChecked(source.getChecked()));
+    }
+
+    /**
+     * Creates a new {@link Lazy} whose value is derived from another {@link Lazy}, which is itself derived from mine.
+     *
+     * @param mapper the code that transforms my {@link T} into a {@link Lazy} {@link R}
+     * @param <R>    the type of the new value
+     * @return a new {@link Lazy} that will invoke {@code mapper} at most once
+     * @see #map(Unchecked.Function)
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public <R> @NotNull Lazy<R> flatMap(@NotNull Unchecked.Function<? super T, ? extends Lazy<? extends R>> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        var source = source();
+        return fused(() -> mapper.applyChecked(source.getChecked()).getChecked());
+    }
+
+    private static <T> @NotNull Lazy<T> fused(@NotNull Fused<T> supplier) {
+        return new Lazy<>(supplier);
+    }
+
+    /**
+     * Combines 2 {@link Lazy}s into a new {@link Lazy}.
+     *
+     * @return a new {@link Lazy} that will invoke {@code combiner} at most once
+     * @apiNote The inputs are computed in order, on whichever thread computes the new {@link Lazy}; if any of them throws an exception, the
+     * new {@link Lazy} re-throws it without computing the rest.
+     * @implNote Inputs that were created by combinators are fused into the new {@link Lazy}, just like in {@link #map(Unchecked.Function)}.
+     * The new {@link Lazy} forgets about its inputs <i>(and the {@code combiner})</i> once its value has been computed.
+     * @see #map(Unchecked.Function)
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static <A, B, OUT> @NotNull Lazy<OUT> zip(
+        @NotNull Lazy<A> a,
+        @NotNull Lazy<B> b,
+        @NotNull Unchecked.BiFunction<? super A, ? super B, ? extends OUT> combiner
+    ) {
+        Objects.requireNonNull(combiner, "combiner");
+        var aSource = a.source();
+        var bSource = b.source();
+        return fused(() -> combiner.applyChecked(aSource.getChecked(), bSource.getChecked()));
+    }
+
+    /**
+     * Combines 3 {@link Lazy}s into a new {@link Lazy}.
+     *
+     * @see #zip(Lazy, Lazy, Unchecked.BiFunction)
+     */
+    @Contract(value = "_, _, _, _ -> new", pure = true)
+    public static <A, B, C, OUT> @NotNull Lazy<OUT> zip(
+        @NotNull Lazy<A> a,
+        @NotNull Lazy<B> b,
+        @NotNull Lazy<C> c,
+        @NotNull Unchecked.TriFunction<? super A, ? super B, ? super C, ? extends OUT> combiner
+    ) {
+        Objects.requireNonNull(combiner, "combiner");
+        var aSource = a.source();
+        var bSource = b.source();
+        var cSource = c.source();
+        return fused(() -> combiner.applyChecked(aSource.getChecked(), bSource.getChecked(), cSource.getChecked()));
+    }
+
+    /**
+     * Combines 4 {@link Lazy}s into a new {@link Lazy}.
+     *
+     * @see #zip(Lazy, Lazy, Unchecked.BiFunction)
+     */
+    @Contract(value = "_, _, _, _, _ -> new", pure = true)
+    public static <A, B, C, D, OUT> @NotNull Lazy<OUT> zip(
+        @NotNull Lazy<A> a,
+        @NotNull Lazy<B> b,
+        @NotNull Lazy<C> c,
+        @NotNull Lazy<D> d,
+        @NotNull Unchecked.QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends OUT> combiner
+    ) {
+        Objects.requireNonNull(combiner, "combiner");
+        var aSource = a.source();
+        var bSource = b.source();
+        var cSource = c.source();
+        var dSource = d.source();
+        return fused(() -> combiner.applyChecked(aSource.getChecked(), bSource.getChecked(), cSource.getChecked(), dSource.getChecked()));
+    }
+
+    /**
+     * Combines 5 {@link Lazy}s into a new {@link Lazy}.
+     *
+     * @see #zip(Lazy, Lazy, Unchecked.BiFunction)
+     */
+    @Contract(value = "_, _, _, _, _, _ -> new", pure = true)
+    public static <A, B, C, D, E, OUT> @NotNull Lazy<OUT> zip(
+        @NotNull Lazy<A> a,
+        @NotNull Lazy<B> b,
+        @NotNull Lazy<C> c,
+        @NotNull Lazy<D> d,
+        @NotNull Lazy<E> e,
+        @NotNull Unchecked.PentaFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? extends OUT> combiner
+    ) {
+        Objects.requireNonNull(combiner, "combiner");
+        var aSource = a.source();
+        var bSource = b.source();
+        var cSource = c.source();
+        var dSource = d.source();
+        var eSource = e.source();
+        return fused(() -> combiner.applyChecked(aSource.getChecked(), bSource.getChecked(), cSource.getChecked(), dSource.getChecked(), eSource.getChecked()));
+    }
+
+    /**
+     * Combines 6 {@link Lazy}s into a new {@link Lazy}.
+     *
+     * @see #zip(Lazy, Lazy, Unchecked.BiFunction)
+     */
+    @Contract(value = "_, _, _, _, _, _, _ -> new", pure = true)
+    public static <A, B, C, D, E, F, OUT> @NotNull Lazy<OUT> zip(
+        @NotNull Lazy<A> a,
+        @NotNull Lazy<B> b,
+        @NotNull Lazy<C> c,
+        @NotNull Lazy<D> d,
+        @NotNull Lazy<E> e,
+        @NotNull Lazy<F> f,
+        @NotNull Unchecked.HexaFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends OUT> combiner
+    ) {
+        Objects.requireNonNull(combiner, "combiner");
+        var aSource = a.source();
+        var bSource = b.source();
+        var cSource = c.source();
+        var dSource = d.source();
+        var eSource = e.source();
+        var fSource = f.source();
+        return fused(() -> combiner.applyChecked(aSource.getChecked(), bSource.getChecked(), cSource.getChecked(), dSource.getChecked(), eSource.getChecked(), fSource.getChecked()));
+    }
+
+    //endregion
+
+    /**
+     * @return what's going on inside of me
+     * @apiNote A {@link Lazy} whose supplier is currently running is still {@link State#FRESH}.
+     */
+    @Contract(pure = true)
+    public @NotNull State state() {
+        return state;
+    }
+
+    /**
+     * @return how many times my supplier has thrown an exception
+     * @apiNote This can only be greater than {@code 1} if I was created with a {@link RetryPolicy}.
+     */
+    @Contract(pure = true)
+    public int failures() {
+        if (retry != null) {
+            return retry.failures;
+        }
+
+        return state == State.FAILED ? 1 : 0;
+    }
+
+    /**
+     * @return {@code true} if I'm {@link State#FAILED}, but my {@link RetryPolicy} will let me invoke my supplier again
+     */
+    @Contract(pure = true)
+    public boolean willRetry() {
+        return state == State.FAILED && retry != null && retry.canRetry();
+    }
+
+    /**
+     * @return the approximate number of threads currently waiting for another thread to invoke my supplier
+     * @apiNote This is intended for monitoring <i>(e.g. to notice that a slow supplier is piling up callers)</i>, not for synchronization.
+     */
+    @Contract(pure = true)
+    public int waiters() {
+        var lock = this.lock;
+        return lock == null ? 0 : lock.getQueueLength();
+    }
+
     /**
      * Generates my {@link T} if I haven't yet, then returns it.
      * If I am:
      * <ul>
      *     <li>{@link State#FRESH}, invoke my supplier to generate my {@link T}.</li>
      *     <li>{@link State#DONE}, return my {@link T}.</li>
-     *     <li>{@link State#FAILED}, re-{@code throw} the original exception.</li>
+     *     <li>{@link State#FAILED}, re-{@code throw} the most recent exception <i>(unless my {@link RetryPolicy} says it's time to try again)</i>.</li>
      * </ul>
      *
      * @return my {@link T} value
@@ -246,24 +679,181 @@ public final class Lazy<T> implements Unchecked.Supplier<@NotNull T> {
      */
     @Override
     public @NotNull T getChecked() throws Throwable {
-        if (state == State.FRESH) {
-            synchronized (this) {
-                if (state == State.FRESH) {
-                    try {
-                        myObject = getSupplier().get();
-                        state    = State.DONE;
-                    } catch (Throwable e) {
-                        myObject = e;
-                        state    = State.FAILED;
-                    }
-                }
+        if (state != State.DONE) {
+            initialize(LockStrategy.UNINTERRUPTIBLY);
+        }
+
+        return currentValue();
+    }
+
+    /**
+     * The same as {@link #get()}, but gives up if another thread has been invoking my supplier for longer than {@code timeout}.
+     *
+     * @param timeout the maximum time to wait for another thread
+     * @return my {@link T} value
+     * @throws TimeoutException     if another thread was still invoking my supplier after {@code timeout}
+     * @throws InterruptedException if this thread was interrupted while waiting for another thread
+     * @apiNote The {@code timeout} only applies to <i>waiting</i>. If this thread ends up invoking my supplier itself, it runs to completion,
+     * because there's no safe way to abort it.
+     * <p>
+     * Giving up doesn't affect the thread that's invoking my supplier.
+     * <p>
+     * Any exceptions thrown by my supplier will be {@link Unchecked#rethrow(Throwable)}n <i><b>without being wrapped</b></i>, just like {@link #get()}.
+     */
+    public @NotNull T get(@NotNull Duration timeout) throws TimeoutException, InterruptedException {
+        if (state != State.DONE) {
+            var nanos = toNanosSaturated(timeout);
+            if (!initialize(lock -> lock.tryLock(nanos, TimeUnit.NANOSECONDS))) {
+                throw new TimeoutException("Gave up waiting for another thread to compute my value after %s".formatted(timeout));
             }
         }
 
+        try {
+            return currentValue();
+        } catch (Throwable e) {
+            return Unchecked.rethrow(e);
+        }
+    }
+
+    /**
+     * The same as {@link #get()}, but stops waiting if this thread is {@link Thread#interrupt()}ed while another thread is invoking my supplier.
+     *
+     * @return my {@link T} value
+     * @throws InterruptedException if this thread was interrupted while waiting for another thread
+     * @apiNote Any exceptions thrown by my supplier will be {@link Unchecked#rethrow(Throwable)}n <i><b>without being wrapped</b></i>, just like {@link #get()}.
+     */
+    public @NotNull T getInterruptibly() throws InterruptedException {
+        if (state != State.DONE) {
+            initialize(LockStrategy.INTERRUPTIBLY);
+        }
+
+        try {
+            return currentValue();
+        } catch (Throwable e) {
+            return Unchecked.rethrow(e);
+        }
+    }
+
+    private @NotNull T currentValue() throws Throwable {
         if (state == State.FAILED) {
             throw getException();
         }
 
         return Objects.requireNonNull(getValue(), NULL_VALUE_MESSAGE);
     }
+
+    static long toNanosSaturated(@NotNull Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * How we want to wait for my {@link #lock}.
+     */
+    @FunctionalInterface
+    private interface LockStrategy {
+        LockStrategy UNINTERRUPTIBLY = lock -> {
+            lock.lock();
+            return true;
+        };
+        LockStrategy INTERRUPTIBLY   = lock -> {
+            lock.lockInterruptibly();
+            return true;
+        };
+
+        /**
+         * @return {@code true} if the lock was acquired
+         */
+        boolean acquire(@NotNull ReentrantLock lock) throws InterruptedException;
+    }
+
+    /**
+     * Invokes my {@link Supplier} while holding my {@link #lock}, unless another thread beat us to it
+     * <i>(or I'm {@link State#FAILED} and it isn't time to {@link #retry} yet)</i>.
+     *
+     * @param strategy how to acquire my {@link #lock}
+     * @return {@code false} if the {@code strategy} gave up on acquiring my {@link #lock}
+     */
+    private boolean initialize(@NotNull LockStrategy strategy) throws InterruptedException {
+        var lock = this.lock;
+        if (lock == null) {
+            // Another thread already finished initializing me
+            return true;
+        }
+
+        if (!shouldInvokeSupplier()) {
+            // Avoid contending for the lock while we're waiting for the retry backoff
+            return true;
+        }
+
+        if (!acquire(lock, strategy)) {
+            return false;
+        }
+
+        try {
+            if (shouldInvokeSupplier()) {
+                try {
+                    var value = invokeSupplier();
+                    myObject = value;
+                    state    = State.DONE;
+                } catch (Throwable e) {
+                    if (retry != null) {
+                        retry.recordFailure(e);
+                    } else {
+                        myObject = e;
+                    }
+                    state = State.FAILED;
+                }
+
+                if (state == State.DONE || retry == null || !retry.canRetry()) {
+                    // We're never going to invoke the supplier again, so we can forget about it
+                    if (retry != null && state == State.FAILED) {
+                        myObject = null;
+                    }
+                    this.lock = null;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return true;
+    }
+
+    private boolean acquire(@NotNull ReentrantLock lock, @NotNull LockStrategy strategy) throws InterruptedException {
+        var telemetry = this.telemetry;
+        if (telemetry == null) {
+            return strategy.acquire(lock);
+        }
+
+        if (lock.tryLock()) {
+            // Nobody else was invoking my supplier, so we didn't have to wait
+            return true;
+        }
+
+        var event = telemetry.startWaiting();
+        var start = System.nanoTime();
+        try {
+            return strategy.acquire(lock);
+        } finally {
+            telemetry.finishWaiting(event, start);
+        }
+    }
+
+    private T invokeSupplier() throws Throwable {
+        var supplier  = getSupplier();
+        var telemetry = this.telemetry;
+        return telemetry == null ? supplier.get() : telemetry.compute(supplier::get);
+    }
+
+    private boolean shouldInvokeSupplier() {
+        return switch (state) {
+            case FRESH -> true;
+            case DONE -> false;
+            case FAILED -> retry != null && retry.isDue();
+        };
+    }
 }
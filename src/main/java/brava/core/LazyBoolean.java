@@ -0,0 +1,69 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A {@code boolean} that won't be computed until {@link #getAsBoolean()} <i>(or {@link #getAsBooleanChecked()})</i> is called.
+ * <p>
+ * This is the primitive equivalent of {@link Lazy}{@code <}{@link Boolean}{@code >}: my value is stored in an {@code boolean} field, so reading it
+ * never allocates or unboxes.
+ *
+ * @see Lazy
+ */
+public final class LazyBoolean extends PrimitiveLazy implements Unchecked.BooleanSupplier {
+    private boolean value;
+
+    private LazyBoolean(@NotNull Unchecked.BooleanSupplier supplier) {
+        super(supplier);
+    }
+
+    private LazyBoolean(boolean value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * Creates a new {@link LazyBoolean}.
+     *
+     * @param supplier the code that generates my value
+     * @return a new {@link LazyBoolean}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LazyBoolean of(@NotNull Unchecked.BooleanSupplier supplier) {
+        return new LazyBoolean(Objects.requireNonNull(supplier, "supplier"));
+    }
+
+    /**
+     * Creates a new {@link LazyBoolean} with a value that's been pre-initialized.
+     *
+     * @param value my value
+     * @return a new {@link LazyBoolean} that is already {@link Lazy.State#DONE}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LazyBoolean of(boolean value) {
+        return new LazyBoolean(value);
+    }
+
+    @Override
+    void computeAndStore(@NotNull Object supplier) throws Throwable {
+        value = ((Unchecked.BooleanSupplier) supplier).getAsBooleanChecked();
+    }
+
+    /**
+     * Generates my value if I haven't yet, then returns it.
+     *
+     * @return my value
+     * @throws Throwable whatever my supplier threw <i>(possibly on a previous call)</i>, untouched
+     */
+    @Override
+    public boolean getAsBooleanChecked() throws Throwable {
+        if (state != Lazy.State.DONE) {
+            initialize();
+        }
+
+        return value;
+    }
+}
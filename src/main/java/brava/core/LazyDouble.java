@@ -0,0 +1,69 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A {@code double} that won't be computed until {@link #getAsDouble()} <i>(or {@link #getAsDoubleChecked()})</i> is called.
+ * <p>
+ * This is the primitive equivalent of {@link Lazy}{@code <}{@link Double}{@code >}: my value is stored in an {@code double} field, so reading it
+ * never allocates or unboxes.
+ *
+ * @see Lazy
+ */
+public final class LazyDouble extends PrimitiveLazy implements Unchecked.DoubleSupplier {
+    private double value;
+
+    private LazyDouble(@NotNull Unchecked.DoubleSupplier supplier) {
+        super(supplier);
+    }
+
+    private LazyDouble(double value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * Creates a new {@link LazyDouble}.
+     *
+     * @param supplier the code that generates my value
+     * @return a new {@link LazyDouble}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LazyDouble of(@NotNull Unchecked.DoubleSupplier supplier) {
+        return new LazyDouble(Objects.requireNonNull(supplier, "supplier"));
+    }
+
+    /**
+     * Creates a new {@link LazyDouble} with a value that's been pre-initialized.
+     *
+     * @param value my value
+     * @return a new {@link LazyDouble} that is already {@link Lazy.State#DONE}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LazyDouble of(double value) {
+        return new LazyDouble(value);
+    }
+
+    @Override
+    void computeAndStore(@NotNull Object supplier) throws Throwable {
+        value = ((Unchecked.DoubleSupplier) supplier).getAsDoubleChecked();
+    }
+
+    /**
+     * Generates my value if I haven't yet, then returns it.
+     *
+     * @return my value
+     * @throws Throwable whatever my supplier threw <i>(possibly on a previous call)</i>, untouched
+     */
+    @Override
+    public double getAsDoubleChecked() throws Throwable {
+        if (state != Lazy.State.DONE) {
+            initialize();
+        }
+
+        return value;
+    }
+}
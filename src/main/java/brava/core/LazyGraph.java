@@ -0,0 +1,244 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import com.google.common.graph.GraphBuilder;
+import com.google.common.graph.ImmutableGraph;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A set of {@link Lazy} values <i>(or any other {@link Unchecked.Supplier})</i> with dependencies between them, which can be
+ * {@link #warmUp()}ed in parallel.
+ * <p>
+ * Each node is initialized as soon as all of its dependencies have been initialized, so the whole graph takes
+ * <a href="https://en.wikipedia.org/wiki/Critical_path_method">critical-path</a> time rather than sum-of-parts time.
+ *
+ * <h1>Example</h1>
+ * <pre>{@code
+ * var graph = LazyGraph.builder()
+ *     .add("config", CONFIG)
+ *     .add("database", DATABASE, "config")
+ *     .add("templates", TEMPLATES, "config")
+ *     .add("server", SERVER, "database", "templates")
+ *     .build();
+ *
+ * var report = graph.warmUp(); // "database" and "templates" are initialized at the same time
+ * }</pre>
+ *
+ * @apiNote Declaring a dependency doesn't change how the nodes behave - it only tells me what order to initialize them in.
+ * If a node's supplier uses another node, it should still call {@link Lazy#get()} itself.
+ */
+public final class LazyGraph {
+    private final @NotNull Map<String, Unchecked.Supplier<?>> nodes;
+    private final @NotNull ImmutableGraph<String>             dependencies;
+    /**
+     * Every node, ordered so that each node comes after all of its dependencies.
+     */
+    private final @NotNull List<String>                       topologicalOrder;
+
+    private LazyGraph(@NotNull Map<String, Unchecked.Supplier<?>> nodes, @NotNull ImmutableGraph<String> dependencies) {
+        this.nodes            = Collections.unmodifiableMap(nodes);
+        this.dependencies     = dependencies;
+        this.topologicalOrder = sortTopologically(dependencies);
+    }
+
+    /**
+     * @return a new, empty {@link Builder}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Declares the nodes of a {@link LazyGraph}.
+     */
+    public static final class Builder {
+        private final LinkedHashMap<String, Unchecked.Supplier<?>> nodes        = new LinkedHashMap<>();
+        private final LinkedHashMap<String, List<String>>          dependencies = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a node to the graph.
+         *
+         * @param name         a unique name for the node, which is used to declare dependencies and in the {@link Report}
+         * @param node         the {@link Lazy} <i>(or other {@link Unchecked.Supplier})</i> to initialize
+         * @param dependencies the names of the nodes that must be initialized before this one <i>(which can be added later)</i>
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if there's already a node called {@code name}
+         */
+        @Contract("_, _, _ -> this")
+        public @NotNull Builder add(@NotNull String name, @NotNull Unchecked.Supplier<?> node, @NotNull String... dependencies) {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(node, "node");
+            Preconditions.checkArgument(!nodes.containsKey(name), "There's already a node called `%s`!", name);
+
+            nodes.put(name, node);
+            this.dependencies.put(name, List.of(dependencies));
+            return this;
+        }
+
+        /**
+         * @return a new {@link LazyGraph}
+         * @throws IllegalArgumentException if a dependency doesn't exist, or the dependencies contain a cycle
+         */
+        @Contract("-> new")
+        public @NotNull LazyGraph build() {
+            var graph = GraphBuilder.directed()
+                .allowsSelfLoops(true)
+                .<String>immutable();
+
+            nodes.keySet().forEach(graph::addNode);
+            dependencies.forEach((name, dependsOn) -> {
+                for (var dependency : dependsOn) {
+                    Preconditions.checkArgument(nodes.containsKey(dependency), "`%s` depends on `%s`, which doesn't exist!", name, dependency);
+                    // Edges point from the dependency to the dependent, i.e. in the order they need to be initialized
+                    graph.putEdge(dependency, name);
+                }
+            });
+
+            return new LazyGraph(new LinkedHashMap<>(nodes), graph.build());
+        }
+    }
+
+    /**
+     * Uses <a href="https://en.wikipedia.org/wiki/Topological_sorting#Kahn's_algorithm">Kahn's algorithm</a>, which also tells us if there
+     * are any cycles.
+     */
+    private static @NotNull @Unmodifiable List<String> sortTopologically(@NotNull ImmutableGraph<String> graph) {
+        var remainingDependencies = new HashMap<String, Integer>();
+        var ready                 = new ArrayDeque<String>();
+        for (var node : graph.nodes()) {
+            var inDegree = graph.inDegree(node);
+            remainingDependencies.put(node, inDegree);
+            if (inDegree == 0) {
+                ready.add(node);
+            }
+        }
+
+        var sorted = new ArrayList<String>(graph.nodes().size());
+        while (!ready.isEmpty()) {
+            var node = ready.remove();
+            sorted.add(node);
+            for (var dependent : graph.successors(node)) {
+                if (remainingDependencies.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (sorted.size() != graph.nodes().size()) {
+            var cyclic = graph.nodes()
+                .stream()
+                .filter(it -> remainingDependencies.get(it) > 0)
+                .toList();
+            throw new IllegalArgumentException("The dependencies contain a cycle, involving: %s".formatted(cyclic));
+        }
+
+        return Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * The outcome of {@link #warmUp()}.
+     *
+     * @param nodes   the outcome of each node, in the order they were {@link Builder#add}ed:
+     *                <ul>
+     *                    <li>🅰 how long it took to initialize</li>
+     *                    <li>🅱 the exception that it threw</li>
+     *                </ul>
+     * @param elapsed how long the whole graph took to initialize
+     */
+    public record Report(@NotNull @Unmodifiable Map<String, Either<Duration, Throwable>> nodes, @NotNull Duration elapsed) {
+        /**
+         * @return the total time spent initializing all of the nodes, i.e. how long {@link #warmUp()} would have taken if it ran serially
+         */
+        @Contract(pure = true)
+        public @NotNull Duration sumOfParts() {
+            return nodes.values()
+                .stream()
+                .flatMap(Either::streamA)
+                .reduce(Duration.ZERO, Duration::plus);
+        }
+
+        /**
+         * @return the nodes that threw exceptions
+         */
+        @Contract(pure = true)
+        public @NotNull @Unmodifiable Map<String, Throwable> failures() {
+            var failures = new LinkedHashMap<String, Throwable>();
+            nodes.forEach((name, outcome) -> outcome.tryGetB().ifPresent(it -> failures.put(name, it)));
+            return Collections.unmodifiableMap(failures);
+        }
+    }
+
+    /**
+     * Initializes every node, using a new <a href="https://openjdk.org/jeps/444">virtual thread</a> for each one, and waits for them to finish.
+     *
+     * @return a {@link Report} of how long each node took
+     * @apiNote If a node throws an exception, its dependents are still initialized <i>(and will presumably fail in turn, if they actually use it)</i>.
+     * @see #warmUp(Executor)
+     */
+    public @NotNull Report warmUp() {
+        return warmUp(VirtualThreads.executor());
+    }
+
+    /**
+     * Initializes every node on the given {@link Executor}, and waits for them to finish.
+     *
+     * @param executor where each node is initialized, such as a {@link java.util.concurrent.ForkJoinPool}
+     * @return a {@link Report} of how long each node took
+     * @see #warmUpAsync(Executor)
+     */
+    public @NotNull Report warmUp(@NotNull Executor executor) {
+        return warmUpAsync(executor).join();
+    }
+
+    /**
+     * Starts initializing every node on the given {@link Executor}, without waiting for them to finish.
+     *
+     * @param executor where each node is initialized, such as a {@link java.util.concurrent.ForkJoinPool}
+     * @return a {@link CompletableFuture} that completes once every node has finished
+     */
+    public @NotNull CompletableFuture<Report> warmUpAsync(@NotNull Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+
+        var start   = System.nanoTime();
+        var futures = new HashMap<String, CompletableFuture<Either<Duration, Throwable>>>();
+        for (var name : topologicalOrder) {
+            var upstream = dependencies.predecessors(name)
+                .stream()
+                .map(futures::get)
+                .toArray(CompletableFuture<?>[]::new);
+            var node = nodes.get(name);
+            futures.put(name, CompletableFuture.allOf(upstream).thenApplyAsync(ignored -> initialize(node), executor));
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture<?>[]::new))
+            .thenApply(ignored -> {
+                var outcomes = new LinkedHashMap<String, Either<Duration, Throwable>>();
+                nodes.keySet().forEach(name -> outcomes.put(name, futures.get(name).join()));
+                return new Report(Collections.unmodifiableMap(outcomes), Duration.ofNanos(System.nanoTime() - start));
+            });
+    }
+
+    private static @NotNull Either<Duration, Throwable> initialize(@NotNull Unchecked.Supplier<?> node) {
+        var start = System.nanoTime();
+        return Either.resultOf(node::getChecked)
+            .mapA(ignored -> Duration.ofNanos(System.nanoTime() - start));
+    }
+}
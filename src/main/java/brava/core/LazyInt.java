@@ -0,0 +1,69 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * An {@code int} that won't be computed until {@link #getAsInt()} <i>(or {@link #getAsIntChecked()})</i> is called.
+ * <p>
+ * This is the primitive equivalent of {@link Lazy}{@code <}{@link Integer}{@code >}: my value is stored in an {@code int} field, so reading it
+ * never allocates or unboxes.
+ *
+ * @see Lazy
+ */
+public final class LazyInt extends PrimitiveLazy implements Unchecked.IntSupplier {
+    private int value;
+
+    private LazyInt(@NotNull Unchecked.IntSupplier supplier) {
+        super(supplier);
+    }
+
+    private LazyInt(int value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * Creates a new {@link LazyInt}.
+     *
+     * @param supplier the code that generates my value
+     * @return a new {@link LazyInt}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LazyInt of(@NotNull Unchecked.IntSupplier supplier) {
+        return new LazyInt(Objects.requireNonNull(supplier, "supplier"));
+    }
+
+    /**
+     * Creates a new {@link LazyInt} with a value that's been pre-initialized.
+     *
+     * @param value my value
+     * @return a new {@link LazyInt} that is already {@link Lazy.State#DONE}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LazyInt of(int value) {
+        return new LazyInt(value);
+    }
+
+    @Override
+    void computeAndStore(@NotNull Object supplier) throws Throwable {
+        value = ((Unchecked.IntSupplier) supplier).getAsIntChecked();
+    }
+
+    /**
+     * Generates my value if I haven't yet, then returns it.
+     *
+     * @return my value
+     * @throws Throwable whatever my supplier threw <i>(possibly on a previous call)</i>, untouched
+     */
+    @Override
+    public int getAsIntChecked() throws Throwable {
+        if (state != Lazy.State.DONE) {
+            initialize();
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,69 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A {@code long} that won't be computed until {@link #getAsLong()} <i>(or {@link #getAsLongChecked()})</i> is called.
+ * <p>
+ * This is the primitive equivalent of {@link Lazy}{@code <}{@link Long}{@code >}: my value is stored in an {@code long} field, so reading it
+ * never allocates or unboxes.
+ *
+ * @see Lazy
+ */
+public final class LazyLong extends PrimitiveLazy implements Unchecked.LongSupplier {
+    private long value;
+
+    private LazyLong(@NotNull Unchecked.LongSupplier supplier) {
+        super(supplier);
+    }
+
+    private LazyLong(long value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * Creates a new {@link LazyLong}.
+     *
+     * @param supplier the code that generates my value
+     * @return a new {@link LazyLong}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LazyLong of(@NotNull Unchecked.LongSupplier supplier) {
+        return new LazyLong(Objects.requireNonNull(supplier, "supplier"));
+    }
+
+    /**
+     * Creates a new {@link LazyLong} with a value that's been pre-initialized.
+     *
+     * @param value my value
+     * @return a new {@link LazyLong} that is already {@link Lazy.State#DONE}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LazyLong of(long value) {
+        return new LazyLong(value);
+    }
+
+    @Override
+    void computeAndStore(@NotNull Object supplier) throws Throwable {
+        value = ((Unchecked.LongSupplier) supplier).getAsLongChecked();
+    }
+
+    /**
+     * Generates my value if I haven't yet, then returns it.
+     *
+     * @return my value
+     * @throws Throwable whatever my supplier threw <i>(possibly on a previous call)</i>, untouched
+     */
+    @Override
+    public long getAsLongChecked() throws Throwable {
+        if (state != Lazy.State.DONE) {
+            initialize();
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,222 @@
+package brava.core;
+
+import brava.core.exceptions.UnreachableException;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoizes an {@link Unchecked.Function}, computing its result <i>at most once</i> per key <i>(until that key is evicted)</i>.
+ * <p>
+ * Each key is mapped to its own {@link Lazy}, which means that:
+ * <ul>
+ *     <li>The map itself is only locked for long enough to create a {@link Lazy} - never while the function is running.
+ *     Slow computations for one key don't block lookups of other keys.</li>
+ *     <li>Concurrent requests for the same key wait for a single computation.</li>
+ *     <li>If the function throws an exception, that exception is cached and re-thrown, just like {@link Lazy#get()}.</li>
+ * </ul>
+ *
+ * @param <K> the input type
+ * @param <V> the output type
+ * @implNote The entries are stored in a Guava {@link Cache}, which takes care of {@link #maximumSize} eviction
+ * <i>(approximately least-recently-used)</i> and {@link #timeToLive} expiration.
+ * @see Lazy#memoize(Unchecked.Function)
+ */
+public final class LazyMap<K, V> implements Unchecked.Function<@NotNull K, @NotNull V> {
+    private final @NotNull Unchecked.Function<? super K, ? extends V> function;
+    private final @NotNull Cache<K, Lazy<V>>                           cache;
+    private final          long                                        maximumSize;
+    private final @Nullable Duration                                   timeToLive;
+    private final          LongAdder                                   loadSuccessCount   = new LongAdder();
+    private final          LongAdder                                   loadExceptionCount = new LongAdder();
+    private final          LongAdder                                   totalLoadNanos     = new LongAdder();
+
+    private LazyMap(@NotNull Unchecked.Function<? super K, ? extends V> function, long maximumSize, @Nullable Duration timeToLive) {
+        this.function    = Objects.requireNonNull(function, "function");
+        this.maximumSize = maximumSize;
+        this.timeToLive  = timeToLive;
+
+        var builder = CacheBuilder.newBuilder().recordStats();
+        if (maximumSize != Long.MAX_VALUE) {
+            Preconditions.checkArgument(maximumSize >= 0, "maximumSize must not be negative: %s", maximumSize);
+            builder.maximumSize(maximumSize);
+        }
+        if (timeToLive != null) {
+            Preconditions.checkArgument(timeToLive.compareTo(Duration.ZERO) > 0, "timeToLive must be positive: %s", timeToLive);
+            builder.expireAfterWrite(timeToLive);
+        }
+        this.cache = builder.build();
+    }
+
+    //region Factories
+
+    /**
+     * Creates an unbounded {@link LazyMap}.
+     *
+     * @param function the code that generates a <b><i>non-null</i></b> {@link V} for each {@link K}
+     * @param <K>      the input type
+     * @param <V>      the output type
+     * @return a new {@link LazyMap}
+     * @apiNote An unbounded {@link LazyMap} will hold on to every result forever, so only use this if the set of possible keys is small.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <K, V> @NotNull LazyMap<K, V> of(@NotNull Unchecked.Function<? super K, ? extends V> function) {
+        return new LazyMap<>(function, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a {@link LazyMap} that evicts entries once it contains more than {@code maximumSize}.
+     *
+     * @param function    the code that generates a <b><i>non-null</i></b> {@link V} for each {@link K}
+     * @param maximumSize the maximum number of entries
+     * @param <K>         the input type
+     * @param <V>         the output type
+     * @return a new {@link LazyMap}
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <K, V> @NotNull LazyMap<K, V> of(@NotNull Unchecked.Function<? super K, ? extends V> function, long maximumSize) {
+        return new LazyMap<>(function, maximumSize, null);
+    }
+
+    /**
+     * Creates a {@link LazyMap} that evicts entries once it contains more than {@code maximumSize}, <i>or</i> once they're older than
+     * {@code timeToLive}.
+     *
+     * @param function    the code that generates a <b><i>non-null</i></b> {@link V} for each {@link K}
+     * @param maximumSize the maximum number of entries
+     * @param timeToLive  how long after an entry is created that it's evicted <i>(whether it succeeded or failed)</i>
+     * @param <K>         the input type
+     * @param <V>         the output type
+     * @return a new {@link LazyMap}
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static <K, V> @NotNull LazyMap<K, V> of(
+        @NotNull Unchecked.Function<? super K, ? extends V> function,
+        long maximumSize,
+        @NotNull Duration timeToLive
+    ) {
+        return new LazyMap<>(function, maximumSize, Objects.requireNonNull(timeToLive, "timeToLive"));
+    }
+
+    //endregion
+
+    /**
+     * Gets the {@link V} for {@code key}, computing it if necessary.
+     *
+     * @param key the input to my function
+     * @return the {@link V} for {@code key}
+     * @throws Throwable whatever my function threw for {@code key} <i>(possibly on a previous call)</i>, untouched
+     */
+    @Override
+    public @NotNull V applyChecked(@NotNull K key) throws Throwable {
+        return getLazy(key).getChecked();
+    }
+
+    /**
+     * An alias for {@link #apply(Object)}.
+     *
+     * @param key the input to my function
+     * @return the {@link V} for {@code key}
+     * @apiNote Any checked exceptions will be {@link Unchecked#rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+     */
+    public @NotNull V get(@NotNull K key) {
+        return apply(key);
+    }
+
+    private @NotNull Lazy<V> getLazy(@NotNull K key) {
+        Objects.requireNonNull(key, "key");
+        try {
+            return cache.get(key, () -> Lazy.of(() -> load(key)));
+        } catch (ExecutionException e) {
+            throw new UnreachableException("Creating a Lazy can't throw a checked exception!", e);
+        }
+    }
+
+    private @NotNull V load(@NotNull K key) throws Throwable {
+        var start = System.nanoTime();
+        try {
+            var value = Objects.requireNonNull(function.applyChecked(key), Lazy.NULL_VALUE_MESSAGE);
+            loadSuccessCount.increment();
+            return value;
+        } catch (Throwable e) {
+            loadExceptionCount.increment();
+            throw e;
+        } finally {
+            totalLoadNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param key the input to my function
+     * @return the {@link Lazy.State} of {@code key}'s entry, or {@link Lazy.State#FRESH} if there isn't one
+     * @apiNote This never triggers a computation.
+     */
+    @Contract(pure = true)
+    public @NotNull Lazy.State state(@NotNull K key) {
+        var lazy = cache.asMap().get(key);
+        return lazy == null ? Lazy.State.FRESH : lazy.state();
+    }
+
+    /**
+     * Forgets the {@link V} <i>(or exception)</i> for {@code key}, so that it will be re-computed next time.
+     *
+     * @param key the input to my function
+     */
+    public void invalidate(@NotNull K key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Forgets everything.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the approximate number of entries <i>(including failures and in-progress computations)</i>
+     */
+    @Contract(pure = true)
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * @return a snapshot of my statistics, where:
+     * <ul>
+     *     <li>The "hit" and "miss" counts refer to whether a key already had an entry</li>
+     *     <li>The "load" counts and times refer to invocations of my function</li>
+     * </ul>
+     */
+    @Contract(pure = true)
+    public @NotNull CacheStats stats() {
+        var cacheStats = cache.stats();
+        return new CacheStats(
+            cacheStats.hitCount(),
+            cacheStats.missCount(),
+            loadSuccessCount.sum(),
+            loadExceptionCount.sum(),
+            totalLoadNanos.sum(),
+            cacheStats.evictionCount()
+        );
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "%s(maximumSize: %s, timeToLive: %s, %s)".formatted(
+            getClass().getSimpleName(),
+            maximumSize == Long.MAX_VALUE ? "∞" : maximumSize,
+            timeToLive == null ? "∞" : timeToLive,
+            stats()
+        );
+    }
+}
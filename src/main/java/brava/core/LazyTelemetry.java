@@ -0,0 +1,195 @@
+package brava.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates initialization statistics for {@link Lazy#instrumented(String, Unchecked.Supplier) instrumented} {@link Lazy}s, keyed by name.
+ * <p>
+ * Each instrumented {@link Lazy} also emits <a href="https://docs.oracle.com/en/java/javase/17/jfapi/">JDK Flight Recorder</a> events:
+ * <ul>
+ *     <li>{@value ComputeEvent#NAME}, spanning each invocation of the supplier</li>
+ *     <li>{@value WaitEvent#NAME}, spanning the time a thread spent blocked while another thread invoked the supplier</li>
+ * </ul>
+ *
+ * @apiNote Instrumentation is opt-in, per {@link Lazy}.
+ * A {@link Lazy} created without a name never touches this class, and once an instrumented {@link Lazy} has been computed, its
+ * {@link Lazy#get()} is exactly as fast as if it hadn't been instrumented.
+ */
+public final class LazyTelemetry {
+    private static final ConcurrentHashMap<String, Recorder> RECORDERS = new ConcurrentHashMap<>();
+
+    private LazyTelemetry() {
+        throw new UnsupportedOperationException("🚪🩸");
+    }
+
+    /**
+     * A snapshot of the statistics for every {@link Lazy} with a given name.
+     *
+     * @param name         the name passed to {@link Lazy#instrumented(String, Unchecked.Supplier)}
+     * @param computations how many times a supplier was invoked
+     * @param failures     how many of those invocations threw an exception
+     * @param computeTime  the total time spent invoking suppliers
+     * @param waiters      how many times a thread blocked while another thread was invoking a supplier
+     * @param waitTime     the total time that threads spent blocked
+     */
+    public record Stats(
+        @NotNull String name,
+        long computations,
+        long failures,
+        @NotNull Duration computeTime,
+        long waiters,
+        @NotNull Duration waitTime
+    ) {
+    }
+
+    /**
+     * @param name the name passed to {@link Lazy#instrumented(String, Unchecked.Supplier)}
+     * @return the {@link Stats} for {@code name}, if any {@link Lazy} with that name has been created
+     */
+    @Contract(pure = true)
+    public static @NotNull Optional<Stats> stats(@NotNull String name) {
+        return Optional.ofNullable(RECORDERS.get(name)).map(Recorder::stats);
+    }
+
+    /**
+     * @return the {@link Stats} for every name, sorted by name
+     */
+    @Contract(pure = true)
+    public static @NotNull @Unmodifiable Map<String, Stats> stats() {
+        var stats = new TreeMap<String, Stats>();
+        RECORDERS.forEach((name, recorder) -> stats.put(name, recorder.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Resets every {@link Stats} to zero.
+     */
+    public static void reset() {
+        RECORDERS.values().forEach(Recorder::reset);
+    }
+
+    /**
+     * @return the shared {@link Recorder} for {@code name}
+     */
+    static @NotNull Recorder recorder(@NotNull String name) {
+        return RECORDERS.computeIfAbsent(Objects.requireNonNull(name, "name"), Recorder::new);
+    }
+
+    /**
+     * Records the statistics for a single name.
+     */
+    static final class Recorder {
+        private final @NotNull String    name;
+        private final          LongAdder computations = new LongAdder();
+        private final          LongAdder failures     = new LongAdder();
+        private final          LongAdder computeNanos = new LongAdder();
+        private final          LongAdder waiters      = new LongAdder();
+        private final          LongAdder waitNanos    = new LongAdder();
+
+        private Recorder(@NotNull String name) {
+            this.name = name;
+        }
+
+        /**
+         * Invokes {@code supplier}, recording how long it took and whether it failed.
+         */
+        <T> T compute(@NotNull Unchecked.Supplier<T> supplier) throws Throwable {
+            var event = new ComputeEvent();
+            event.name = name;
+            event.begin();
+            var start = System.nanoTime();
+            try {
+                return supplier.getChecked();
+            } catch (Throwable e) {
+                failures.increment();
+                event.exceptionType = e.getClass();
+                throw e;
+            } finally {
+                computeNanos.add(System.nanoTime() - start);
+                computations.increment();
+                event.commit();
+            }
+        }
+
+        /**
+         * @return a new {@link WaitEvent} that has already {@link Event#begin()}n
+         */
+        @NotNull WaitEvent startWaiting() {
+            var event = new WaitEvent();
+            event.name = name;
+            event.begin();
+            return event;
+        }
+
+        void finishWaiting(@NotNull WaitEvent event, long startNanos) {
+            waitNanos.add(System.nanoTime() - startNanos);
+            waiters.increment();
+            event.commit();
+        }
+
+        private @NotNull Stats stats() {
+            return new Stats(
+                name,
+                computations.sum(),
+                failures.sum(),
+                Duration.ofNanos(computeNanos.sum()),
+                waiters.sum(),
+                Duration.ofNanos(waitNanos.sum())
+            );
+        }
+
+        private void reset() {
+            computations.reset();
+            failures.reset();
+            computeNanos.reset();
+            waiters.reset();
+            waitNanos.reset();
+        }
+    }
+
+    //region JFR events
+
+    @Name(ComputeEvent.NAME)
+    @Label("Lazy Computation")
+    @Category({"Brava", "Lazy"})
+    @Description("The invocation of an instrumented Lazy's supplier")
+    static final class ComputeEvent extends Event {
+        static final String NAME = "brava.core.LazyComputation";
+
+        @Label("Name")
+        String   name;
+        @Label("Exception Type")
+        @Nullable
+        Class<?> exceptionType;
+    }
+
+    @Name(WaitEvent.NAME)
+    @Label("Lazy Wait")
+    @Category({"Brava", "Lazy"})
+    @Description("A thread blocked while another thread invoked an instrumented Lazy's supplier")
+    static final class WaitEvent extends Event {
+        static final String NAME = "brava.core.LazyWait";
+
+        @Label("Name")
+        String name;
+    }
+
+    //endregion
+}
@@ -0,0 +1,245 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of lazily-created {@link T}s, for objects that are expensive to create and <b>not</b> thread-safe, like formatters, digesters,
+ * compressors, or buffers.
+ * <p>
+ * Rather than creating one {@link T} per thread with a {@link ThreadLocal} - which explodes when there are millions of
+ * <a href="https://openjdk.org/jeps/444">virtual threads</a> - at most {@link #maxSize()} {@link T}s are ever created, and each one is used by at
+ * most one thread at a time.
+ *
+ * <h1>Example</h1>
+ * <pre>{@code
+ * private static final PooledLazy<MessageDigest> SHA_256 = PooledLazy.of(() -> MessageDigest.getInstance("SHA-256"));
+ *
+ * byte[] hash(byte[] bytes) {
+ *     return SHA_256.borrow(digest -> digest.digest(bytes));
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the pooled objects
+ * @apiNote The {@link T}s are handed back out exactly as they were returned, so if they have any state <i>(like a partially-updated
+ * {@link java.security.MessageDigest})</i>, make sure to reset it before returning them.
+ * @implNote Ideally, we'd keep one {@link T} per <i>carrier</i> thread, but there isn't a public API for that; a pool whose default
+ * {@link #maxSize()} is the number of processors is the closest equivalent.
+ */
+public final class PooledLazy<T> {
+    private final @NotNull Unchecked.Supplier<@NotNull T> factory;
+    private final          int                            maxSize;
+    private final          Semaphore                      permits;
+    /**
+     * The {@link T}s that aren't currently borrowed, used as a stack so that the most recently returned <i>(and therefore most likely to be
+     * in the CPU cache)</i> {@link T} is handed out first.
+     */
+    private final          ConcurrentLinkedDeque<T>       idle    = new ConcurrentLinkedDeque<>();
+    private final          AtomicInteger                  created = new AtomicInteger();
+
+    private PooledLazy(@NotNull Unchecked.Supplier<@NotNull T> factory, int maxSize) {
+        Preconditions.checkArgument(maxSize >= 1, "maxSize must be at least 1: %s", maxSize);
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize);
+    }
+
+    //region Factories
+
+    /**
+     * Creates a new {@link PooledLazy} that holds up to one {@link T} per {@link Runtime#availableProcessors()}.
+     *
+     * @param factory the code that creates a new <b><i>non-null</i></b> {@link T}
+     * @param <T>     the type of the pooled objects
+     * @return a new {@link PooledLazy}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> @NotNull PooledLazy<T> of(@NotNull Unchecked.Supplier<@NotNull T> factory) {
+        return of(factory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new {@link PooledLazy}.
+     *
+     * @param factory the code that creates a new <b><i>non-null</i></b> {@link T}
+     * @param maxSize the most {@link T}s that will ever exist at once
+     * @param <T>     the type of the pooled objects
+     * @return a new {@link PooledLazy}
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> @NotNull PooledLazy<T> of(@NotNull Unchecked.Supplier<@NotNull T> factory, int maxSize) {
+        return new PooledLazy<>(factory, maxSize);
+    }
+
+    //endregion
+
+    /**
+     * A {@link T} that has been borrowed from a {@link PooledLazy}, which is returned when I'm {@link #close()}d.
+     *
+     * <h1>Example</h1>
+     * <pre>{@code
+     * try (var lease = POOL.lease()) {
+     *     lease.get().doStuff();
+     * }
+     * }</pre>
+     *
+     * @param <T> the type of the pooled objects
+     */
+    public static final class Lease<T> implements AutoCloseable {
+        private final    PooledLazy<T> pool;
+        @Nullable
+        private          T             instance;
+
+        private Lease(@NotNull PooledLazy<T> pool, @NotNull T instance) {
+            this.pool     = pool;
+            this.instance = instance;
+        }
+
+        /**
+         * @return the borrowed {@link T}
+         * @throws IllegalStateException if I've already been {@link #close()}d or {@link #discard()}ed
+         */
+        public @NotNull T get() {
+            Preconditions.checkState(instance != null, "This lease has already been returned!");
+            return instance;
+        }
+
+        /**
+         * Throws away the borrowed {@link T} instead of returning it, e.g. because it's been left in an inconsistent state.
+         * A new {@link T} will be created in its place when needed.
+         */
+        public void discard() {
+            if (instance != null) {
+                instance = null;
+                pool.discard();
+            }
+        }
+
+        /**
+         * Returns the borrowed {@link T} to the pool.
+         * Does nothing if I've already been closed or {@link #discard()}ed.
+         */
+        @Override
+        public void close() {
+            if (instance != null) {
+                var returning = instance;
+                instance = null;
+                pool.giveBack(returning);
+            }
+        }
+    }
+
+    /**
+     * Borrows a {@link T}, waiting for one to be returned if all {@link #maxSize()} of them are in use.
+     *
+     * @return a {@link Lease} that <b>must</b> be {@link Lease#close()}d
+     * @throws InterruptedException if this thread was interrupted while waiting
+     * @apiNote Prefer {@link #borrow(Unchecked.Function)}, which can't forget to return the {@link T}.
+     */
+    public @NotNull Lease<T> lease() throws InterruptedException {
+        permits.acquire();
+        try {
+            return new Lease<>(this, takeOrCreate());
+        } catch (Throwable e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Borrows a {@link T} for the duration of {@code action}, waiting for one to be returned if all {@link #maxSize()} of them are in use.
+     *
+     * @param action the code that uses the {@link T}
+     * @param <R>    the type of the result
+     * @return the result of {@code action}
+     * @apiNote If {@code action} throws an exception, the {@link T} is {@link Lease#discard()}ed rather than returned, in case it was left in an
+     * inconsistent state.
+     * <p>
+     * Any checked exceptions <i>(including an {@link InterruptedException} while waiting)</i> will be {@link Unchecked#rethrow(Throwable)}n
+     * <i><b>without being wrapped</b></i>.
+     */
+    public <R> R borrow(@NotNull Unchecked.Function<? super T, ? extends R> action) {
+        try (var lease = lease()) {
+            try {
+                return action.applyChecked(lease.get());
+            } catch (Throwable e) {
+                lease.discard();
+                throw e;
+            }
+        } catch (Throwable e) {
+            return Unchecked.rethrow(e);
+        }
+    }
+
+    private @NotNull T takeOrCreate() {
+        var instance = idle.pollFirst();
+        if (instance != null) {
+            return instance;
+        }
+
+        instance = Objects.requireNonNull(factory.get(), Lazy.NULL_VALUE_MESSAGE);
+        created.incrementAndGet();
+        return instance;
+    }
+
+    private void giveBack(@NotNull T instance) {
+        idle.offerFirst(instance);
+        permits.release();
+    }
+
+    private void discard() {
+        created.decrementAndGet();
+        permits.release();
+    }
+
+    //region Occupancy
+
+    /**
+     * A snapshot of what's going on inside of a {@link PooledLazy}.
+     *
+     * @param maxSize  the most objects that will ever exist at once
+     * @param created  how many objects currently exist
+     * @param borrowed how many objects are currently borrowed
+     * @param waiters  the approximate number of threads waiting to borrow an object
+     */
+    public record Occupancy(int maxSize, int created, int borrowed, int waiters) {
+        /**
+         * @return how many objects are available to be borrowed without creating a new one
+         */
+        @Contract(pure = true)
+        public int idle() {
+            return Math.max(0, created - borrowed);
+        }
+    }
+
+    /**
+     * @return the most {@link T}s that will ever exist at once
+     */
+    @Contract(pure = true)
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return a snapshot of how many {@link T}s exist and are borrowed
+     * @apiNote The numbers are read separately, so they might be slightly inconsistent if other threads are borrowing at the same time.
+     */
+    @Contract(pure = true)
+    public @NotNull Occupancy occupancy() {
+        return new Occupancy(maxSize, created.get(), maxSize - permits.availablePermits(), permits.getQueueLength());
+    }
+
+    //endregion
+
+    @Override
+    public @NotNull String toString() {
+        return "%s(%s)".formatted(getClass().getSimpleName(), occupancy());
+    }
+}
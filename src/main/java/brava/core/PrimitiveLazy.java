@@ -0,0 +1,99 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The machinery shared by the primitive-specialized {@link Lazy}s, which store their values in primitive fields to avoid boxing.
+ * <p>
+ * Each subclass declares its own primitive {@code value} field, which is written <i>before</i> my {@link #state} becomes {@link Lazy.State#DONE};
+ * since {@link #state} is {@code volatile}, any thread that sees {@link Lazy.State#DONE} also sees the {@code value}.
+ * This way, the hot path is a single {@code volatile} read followed by a plain read, without any allocation or unboxing.
+ *
+ * @implSpec Follows the same rules as {@link Lazy}: the supplier is invoked <i>at most once</i>, under a {@link ReentrantLock}, and is forgotten
+ * afterwards; exceptions are cached and re-thrown forever.
+ */
+abstract sealed class PrimitiveLazy permits LazyInt, LazyLong, LazyDouble, LazyBoolean {
+    volatile @NotNull Lazy.State state;
+    /**
+     * Stores something, based on my {@link #state}:
+     * <ul>
+     *     <li>{@link Lazy.State#FRESH} ⇒ the supplier that generates my value</li>
+     *     <li>{@link Lazy.State#DONE} ⇒ {@code null} <i>(the value lives in the subclass's primitive field)</i></li>
+     *     <li>{@link Lazy.State#FAILED} ⇒ the {@link Throwable} thrown by my supplier</li>
+     * </ul>
+     */
+    @Nullable
+    private          Object        myObject;
+    /**
+     * Guards the invocation of my supplier while I'm {@link Lazy.State#FRESH}, and is {@code null} otherwise.
+     */
+    @Nullable
+    private volatile ReentrantLock lock;
+
+    /**
+     * Creates a {@link Lazy.State#FRESH} instance.
+     */
+    PrimitiveLazy(@NotNull Object supplier) {
+        this.myObject = supplier;
+        this.state    = Lazy.State.FRESH;
+        this.lock     = new ReentrantLock();
+    }
+
+    /**
+     * Creates a {@link Lazy.State#DONE} instance; the subclass is responsible for setting its value.
+     */
+    PrimitiveLazy() {
+        this.state = Lazy.State.DONE;
+    }
+
+    /**
+     * @return what's going on inside of me
+     * @apiNote An instance whose supplier is currently running is still {@link Lazy.State#FRESH}.
+     */
+    @Contract(pure = true)
+    public final @NotNull Lazy.State state() {
+        return state;
+    }
+
+    /**
+     * Invokes my supplier's {@code getAs*Checked()} method and stores the result in the subclass's primitive field.
+     *
+     * @param supplier the supplier that was passed to my constructor
+     */
+    abstract void computeAndStore(@NotNull Object supplier) throws Throwable;
+
+    /**
+     * Makes sure that my supplier has been invoked, then throws its exception if it failed.
+     * <p>
+     * When this returns normally, my {@link #state} is {@link Lazy.State#DONE} and the subclass's value can be read.
+     */
+    final void initialize() throws Throwable {
+        var lock = this.lock;
+        if (lock != null) {
+            lock.lock();
+            try {
+                if (state == Lazy.State.FRESH) {
+                    try {
+                        computeAndStore(myObject);
+                        myObject = null;
+                        state    = Lazy.State.DONE;
+                    } catch (Throwable e) {
+                        myObject = e;
+                        state    = Lazy.State.FAILED;
+                    }
+                    this.lock = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        if (state == Lazy.State.FAILED) {
+            throw (Throwable) myObject;
+        }
+    }
+}
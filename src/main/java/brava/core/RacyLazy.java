@@ -0,0 +1,119 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * A lock-free alternative to {@link Lazy} for cheap, <a href="https://en.wikipedia.org/wiki/Idempotence">idempotent</a> suppliers.
+ *
+ * @apiNote Unlike {@link Lazy}, multiple threads that call {@link #get()} at the same time <i>might</i> each invoke the supplier.
+ * However, only the first result to be published is ever returned - every other result is thrown away.
+ * <p>
+ * Use this for things like compiling a {@link java.util.regex.Pattern} or building a lookup table, where a duplicate computation is cheaper than
+ * {@link Lazy}'s lock.
+ * @implSpec All of my state is stored in a single field, {@link #myObject}, which is read with
+ * {@link VarHandle#getAcquire(Object...) acquire} semantics and only ever changes via {@link VarHandle#compareAndExchange(Object...) compare-and-exchange}.
+ * <p>
+ * Like {@link Lazy}:
+ * <ul>
+ *     <li>If the supplier throws an exception, that exception is re-thrown by every future call to {@link #get()}.</li>
+ *     <li>Once my value has been published, no references to the supplier remain.</li>
+ * </ul>
+ * @see Lazy#racy(Unchecked.Supplier)
+ */
+public final class RacyLazy<T> implements Unchecked.Supplier<@NotNull T> {
+    private static final VarHandle MY_OBJECT;
+
+    static {
+        try {
+            MY_OBJECT = MethodHandles.lookup().findVarHandle(RacyLazy.class, "myObject", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Distinguishes my bookkeeping objects from an actual {@link T} value, so that the common case only needs a single {@code instanceof} check.
+     */
+    private abstract static sealed class Marker permits Pending, Failure {
+    }
+
+    private static final class Pending<T> extends Marker {
+        private final Unchecked.Supplier<T> supplier;
+
+        private Pending(@NotNull Unchecked.Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+    }
+
+    private static final class Failure extends Marker {
+        private final Throwable exception;
+
+        private Failure(@NotNull Throwable exception) {
+            this.exception = exception;
+        }
+    }
+
+    /**
+     * Stores something, based on my {@link Lazy.State}:
+     * <ul>
+     *     <li>{@link Lazy.State#FRESH} ⇒ a {@link Pending} wrapping the supplier</li>
+     *     <li>{@link Lazy.State#DONE} ⇒ my {@link T}</li>
+     *     <li>{@link Lazy.State#FAILED} ⇒ a {@link Failure} wrapping the {@link Throwable} thrown by the supplier</li>
+     * </ul>
+     *
+     * @implNote Only accessed through {@link #MY_OBJECT}.
+     */
+    @SuppressWarnings("unused")
+    private Object myObject;
+
+    @Contract(pure = true)
+    RacyLazy(@NotNull Unchecked.Supplier<T> supplier) {
+        this.myObject = new Pending<>(Objects.requireNonNull(supplier, "supplier"));
+    }
+
+    /**
+     * Generates my {@link T} if nobody has published one yet, then returns the published value.
+     *
+     * @return my {@link T} value
+     * @throws NullPointerException if the supplier returned a {@code null} value
+     */
+    @Override
+    public @NotNull T getChecked() throws Throwable {
+        var current = MY_OBJECT.getAcquire(this);
+        if (current instanceof Marker marker) {
+            current = resolve(marker);
+        }
+
+        return Unchecked.cast(current);
+    }
+
+    private @NotNull Object resolve(@NotNull Marker marker) throws Throwable {
+        if (marker instanceof Pending<?> pending) {
+            Object result;
+            try {
+                result = Objects.requireNonNull(pending.supplier.getChecked(), Lazy.NULL_VALUE_MESSAGE);
+            } catch (Throwable e) {
+                result = new Failure(e);
+            }
+
+            var witness = MY_OBJECT.compareAndExchange(this, pending, result);
+            // If somebody else won the race, their result is the canonical one
+            return unwrap(witness == pending ? result : witness);
+        }
+
+        return unwrap(marker);
+    }
+
+    private static @NotNull Object unwrap(@NotNull Object published) throws Throwable {
+        if (published instanceof Failure failure) {
+            throw failure.exception;
+        }
+
+        return published;
+    }
+}
@@ -0,0 +1,160 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Similar to {@link Lazy}, but I only hold my {@link T} via a {@link SoftReference} or {@link WeakReference}, so the garbage collector can
+ * reclaim it.
+ * <p>
+ * If my {@link T} has been reclaimed, the next {@link #get()} transparently re-computes it.
+ *
+ * @param <T> the type of my value
+ * @apiNote This is intended for large values that can be re-computed, like parsed indexes or decoded images.
+ * @implSpec <ul>
+ * <li>My supplier is invoked <i>at most once</i> per "generation" - i.e. once initially, and then once each time my {@link T} is reclaimed.
+ * Concurrent callers that find my {@link T} missing wait for a single re-computation.</li>
+ * <li>Unlike {@link Lazy}, I have to hold on to my supplier forever, so be mindful of what it captures.</li>
+ * <li>If my supplier throws an exception, it's cached and re-thrown forever, just like {@link Lazy}.</li>
+ * </ul>
+ * @see Lazy#soft(Unchecked.Supplier)
+ * @see Lazy#weak(Unchecked.Supplier)
+ */
+public final class ReclaimableLazy<T> implements Unchecked.Supplier<@NotNull T> {
+    private final @NotNull Unchecked.Supplier<@NotNull T>  supplier;
+    private final @NotNull Function<T, Reference<T>>       referenceFactory;
+    private final          ReentrantLock                   lock        = new ReentrantLock();
+    private final          AtomicLong                      generations = new AtomicLong();
+    private final          AtomicLong                      reclaimed   = new AtomicLong();
+    /**
+     * {@code null} until my {@link T} has been computed for the first time.
+     */
+    @Nullable
+    private volatile       Reference<T>                    reference;
+    @Nullable
+    private volatile       Throwable                       failure;
+
+    private ReclaimableLazy(@NotNull Unchecked.Supplier<@NotNull T> supplier, @NotNull Function<T, Reference<T>> referenceFactory) {
+        this.supplier         = Objects.requireNonNull(supplier, "supplier");
+        this.referenceFactory = referenceFactory;
+    }
+
+    /**
+     * @see Lazy#soft(Unchecked.Supplier)
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static <T> @NotNull ReclaimableLazy<T> soft(@NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        return new ReclaimableLazy<>(supplier, SoftReference::new);
+    }
+
+    /**
+     * @see Lazy#weak(Unchecked.Supplier)
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static <T> @NotNull ReclaimableLazy<T> weak(@NotNull Unchecked.Supplier<@NotNull T> supplier) {
+        return new ReclaimableLazy<>(supplier, WeakReference::new);
+    }
+
+    /**
+     * @return what's going on inside of me:
+     * <ul>
+     *     <li>{@link Lazy.State#FRESH} ⇒ my {@link T} hasn't been computed yet, <i>or</i> it's been reclaimed</li>
+     *     <li>{@link Lazy.State#DONE} ⇒ my {@link T} is currently available</li>
+     *     <li>{@link Lazy.State#FAILED} ⇒ my supplier threw an exception</li>
+     * </ul>
+     */
+    @Contract(pure = true)
+    public @NotNull Lazy.State state() {
+        if (failure != null) {
+            return Lazy.State.FAILED;
+        }
+
+        var reference = this.reference;
+        return reference == null || reference.get() == null ? Lazy.State.FRESH : Lazy.State.DONE;
+    }
+
+    /**
+     * @return how many times my supplier has been invoked
+     */
+    @Contract(pure = true)
+    public long generations() {
+        return generations.get();
+    }
+
+    /**
+     * @return how many times my {@link T} was found to have been reclaimed by the garbage collector <i>(and was therefore re-computed)</i>
+     */
+    @Contract(pure = true)
+    public long reclaimed() {
+        return reclaimed.get();
+    }
+
+    /**
+     * Returns my {@link T}, computing it if it hasn't been computed yet or has been reclaimed.
+     *
+     * @return my {@link T} value
+     * @throws NullPointerException if my supplier returned a {@code null} value
+     */
+    @Override
+    public @NotNull T getChecked() throws Throwable {
+        var value = currentValue();
+        return value != null ? value : initialize();
+    }
+
+    /**
+     * @return my {@link T} if it's currently available; otherwise, {@code null}
+     * @throws Throwable my cached {@link #failure}, if there is one
+     */
+    private @Nullable T currentValue() throws Throwable {
+        var failure = this.failure;
+        if (failure != null) {
+            throw failure;
+        }
+
+        var reference = this.reference;
+        return reference == null ? null : reference.get();
+    }
+
+    private @NotNull T initialize() throws Throwable {
+        lock.lock();
+        try {
+            var value = currentValue();
+            if (value != null) {
+                // Another thread re-computed my value while we were waiting
+                return value;
+            }
+
+            if (reference != null) {
+                reclaimed.incrementAndGet();
+            }
+
+            generations.incrementAndGet();
+            try {
+                value = Objects.requireNonNull(supplier.getChecked(), Lazy.NULL_VALUE_MESSAGE);
+            } catch (Throwable e) {
+                failure = e;
+                throw e;
+            }
+
+            // We hold a strong reference to `value` until we return it, so it can't be reclaimed before our caller sees it
+            reference = referenceFactory.apply(value);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "%s(%s, generations: %s, reclaimed: %s)".formatted(getClass().getSimpleName(), state(), generations(), reclaimed());
+    }
+}
@@ -0,0 +1,304 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Similar to {@link Lazy}, but my {@link T} is re-computed in the background once it's older than my {@link #timeToLive}.
+ * <p>
+ * While a refresh is running, {@link #get()} keeps returning the previous <i>("stale")</i> value, so readers never wait for a refresh.
+ * The only time {@link #get()} blocks is the very first time it's called, because there isn't any value to return yet.
+ *
+ * @param <T> the type of my value
+ * @apiNote This is intended for values that change rarely but <i>do</i> change, like feature flags, token sets, or routing tables.
+ * @implSpec <ul>
+ * <li>At most one refresh is ever running at a time.</li>
+ * <li>Unlike {@link Lazy}, I have to hold on to my supplier forever, so be mindful of what it captures.</li>
+ * </ul>
+ */
+public final class RefreshingLazy<T> implements Unchecked.Supplier<@NotNull T> {
+    /**
+     * Decides what happens when a refresh fails.
+     */
+    public sealed interface OnFailure {
+        /**
+         * Keep returning the stale value, and try again after another time-to-live.
+         */
+        record KeepStale() implements OnFailure {
+        }
+
+        /**
+         * Keep returning the stale value, but try again sooner than the time-to-live would, using exponential backoff.
+         *
+         * @param initialBackoff how long to wait after the first failure; each consecutive failure doubles this
+         * @param maxBackoff     the longest we'll wait between attempts <i>(which is also capped by the time-to-live)</i>
+         */
+        record RetryWithBackoff(@NotNull Duration initialBackoff, @NotNull Duration maxBackoff) implements OnFailure {
+            public RetryWithBackoff {
+                Preconditions.checkArgument(initialBackoff.compareTo(Duration.ZERO) > 0, "initialBackoff must be positive: %s", initialBackoff);
+                Preconditions.checkArgument(maxBackoff.compareTo(initialBackoff) >= 0, "maxBackoff (%s) must be >= initialBackoff (%s)", maxBackoff, initialBackoff);
+            }
+        }
+
+        /**
+         * Stop returning the stale value: {@link #get()} throws the failure until a later refresh <i>(after another time-to-live)</i> succeeds.
+         */
+        record Surface() implements OnFailure {
+        }
+
+        @Contract(pure = true)
+        static @NotNull OnFailure keepStale() {
+            return new KeepStale();
+        }
+
+        @Contract(pure = true)
+        static @NotNull OnFailure retryWithBackoff(@NotNull Duration initialBackoff, @NotNull Duration maxBackoff) {
+            return new RetryWithBackoff(initialBackoff, maxBackoff);
+        }
+
+        @Contract(pure = true)
+        static @NotNull OnFailure surface() {
+            return new Surface();
+        }
+    }
+
+    /**
+     * An immutable view of my current value, which is replaced wholesale whenever something changes.
+     *
+     * @param value               the most recent successful result, if there has been one
+     * @param failure             the exception that {@link #get()} should throw instead of returning {@link #value}, if any
+     * @param refreshAtNanos      the {@link Ticker#read()} after which we should start a refresh
+     * @param consecutiveFailures how many refreshes in a row have failed
+     */
+    private record Snapshot<T>(@Nullable T value, @Nullable Throwable failure, long refreshAtNanos, int consecutiveFailures) {
+    }
+
+    private final @NotNull Unchecked.Supplier<@NotNull T> supplier;
+    private final @NotNull Duration                       timeToLive;
+    /**
+     * My {@link #timeToLive}, saturated so that absurdly long ones <i>(like {@code Duration.ofSeconds(Long.MAX_VALUE)})</i> mean "never".
+     */
+    private final          long                           timeToLiveNanos;
+    private final @NotNull OnFailure                      onFailure;
+    private final @NotNull Executor                       executor;
+    private final @NotNull Ticker                         ticker;
+    private final          ReentrantLock                  initialLock = new ReentrantLock();
+    private final          AtomicBoolean                  refreshing  = new AtomicBoolean();
+    /**
+     * {@code null} until the initial computation has finished.
+     */
+    @Nullable
+    private volatile       Snapshot<T>                    snapshot;
+
+    private RefreshingLazy(
+        @NotNull Unchecked.Supplier<@NotNull T> supplier,
+        @NotNull Duration timeToLive,
+        @NotNull OnFailure onFailure,
+        @NotNull Executor executor,
+        @NotNull Ticker ticker
+    ) {
+        Preconditions.checkArgument(timeToLive.compareTo(Duration.ZERO) > 0, "timeToLive must be positive: %s", timeToLive);
+        this.supplier        = Objects.requireNonNull(supplier, "supplier");
+        this.timeToLive      = timeToLive;
+        this.timeToLiveNanos = Lazy.toNanosSaturated(timeToLive);
+        this.onFailure       = Objects.requireNonNull(onFailure, "onFailure");
+        this.executor        = Objects.requireNonNull(executor, "executor");
+        this.ticker          = Objects.requireNonNull(ticker, "ticker");
+    }
+
+    //region Factories
+
+    /**
+     * Creates a new {@link RefreshingLazy} that refreshes on a new <a href="https://openjdk.org/jeps/444">virtual thread</a> and
+     * {@link OnFailure.KeepStale keeps the stale value} if a refresh fails.
+     *
+     * @param supplier   the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param timeToLive how long a value is considered fresh
+     * @param <T>        the type of my value
+     * @return a new {@link RefreshingLazy}
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> @NotNull RefreshingLazy<T> of(@NotNull Unchecked.Supplier<@NotNull T> supplier, @NotNull Duration timeToLive) {
+        return of(supplier, timeToLive, OnFailure.keepStale());
+    }
+
+    /**
+     * Creates a new {@link RefreshingLazy} that refreshes on a new <a href="https://openjdk.org/jeps/444">virtual thread</a>.
+     *
+     * @param supplier   the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param timeToLive how long a value is considered fresh
+     * @param onFailure  what to do when a refresh fails
+     * @param <T>        the type of my value
+     * @return a new {@link RefreshingLazy}
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static <T> @NotNull RefreshingLazy<T> of(
+        @NotNull Unchecked.Supplier<@NotNull T> supplier,
+        @NotNull Duration timeToLive,
+        @NotNull OnFailure onFailure
+    ) {
+        return of(supplier, timeToLive, onFailure, VirtualThreads.executor());
+    }
+
+    /**
+     * Creates a new {@link RefreshingLazy}.
+     *
+     * @param supplier   the code that generates a <b><i>non-null</i></b> {@link T} value
+     * @param timeToLive how long a value is considered fresh
+     * @param onFailure  what to do when a refresh fails
+     * @param executor   where refreshes are run
+     * @param <T>        the type of my value
+     * @return a new {@link RefreshingLazy}
+     */
+    @Contract(value = "_, _, _, _ -> new", pure = true)
+    public static <T> @NotNull RefreshingLazy<T> of(
+        @NotNull Unchecked.Supplier<@NotNull T> supplier,
+        @NotNull Duration timeToLive,
+        @NotNull OnFailure onFailure,
+        @NotNull Executor executor
+    ) {
+        return new RefreshingLazy<>(supplier, timeToLive, onFailure, executor, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a new {@link RefreshingLazy} with a custom {@link Ticker}, which is useful for tests.
+     */
+    @Contract(value = "_, _, _, _, _ -> new", pure = true)
+    static <T> @NotNull RefreshingLazy<T> of(
+        @NotNull Unchecked.Supplier<@NotNull T> supplier,
+        @NotNull Duration timeToLive,
+        @NotNull OnFailure onFailure,
+        @NotNull Executor executor,
+        @NotNull Ticker ticker
+    ) {
+        return new RefreshingLazy<>(supplier, timeToLive, onFailure, executor, ticker);
+    }
+
+    //endregion
+
+    /**
+     * @return what's going on inside of me:
+     * <ul>
+     *     <li>{@link Lazy.State#FRESH} ⇒ my value hasn't been computed yet</li>
+     *     <li>{@link Lazy.State#DONE} ⇒ {@link #get()} will return a value <i>(which might be stale)</i></li>
+     *     <li>{@link Lazy.State#FAILED} ⇒ {@link #get()} will throw an exception</li>
+     * </ul>
+     */
+    @Contract(pure = true)
+    public @NotNull Lazy.State state() {
+        var current = snapshot;
+        if (current == null) {
+            return Lazy.State.FRESH;
+        }
+
+        return current.failure == null ? Lazy.State.DONE : Lazy.State.FAILED;
+    }
+
+    /**
+     * @return how many refreshes in a row have failed <i>(including the initial computation)</i>
+     */
+    @Contract(pure = true)
+    public int consecutiveFailures() {
+        var current = snapshot;
+        return current == null ? 0 : current.consecutiveFailures;
+    }
+
+    /**
+     * Returns my current value, starting a background refresh if it's older than my {@link #timeToLive}.
+     *
+     * @return my most recent {@link T} value
+     * @throws NullPointerException if my supplier returned a {@code null} value
+     * @apiNote If this is the first call, it blocks until my value has been computed.
+     */
+    @Override
+    public @NotNull T getChecked() throws Throwable {
+        var current = snapshot;
+        if (current == null) {
+            current = initialize();
+        } else if (ticker.read() - current.refreshAtNanos >= 0) {
+            refreshInBackground();
+        }
+
+        if (current.failure != null) {
+            throw current.failure;
+        }
+
+        return Objects.requireNonNull(current.value);
+    }
+
+    private @NotNull Snapshot<T> initialize() {
+        initialLock.lock();
+        try {
+            var current = snapshot;
+            if (current == null) {
+                current  = compute(null);
+                snapshot = current;
+            }
+
+            return current;
+        } finally {
+            initialLock.unlock();
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    snapshot = compute(snapshot);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (Throwable e) {
+            // e.g. a RejectedExecutionException; somebody else can try again later
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Invokes my {@link #supplier} and figures out what my next {@link Snapshot} should be.
+     *
+     * @param previous my current {@link Snapshot}, or {@code null} if this is the initial computation
+     * @return my next {@link Snapshot}
+     */
+    private @NotNull Snapshot<T> compute(@Nullable Snapshot<T> previous) {
+        try {
+            var value = Objects.requireNonNull(supplier.getChecked(), Lazy.NULL_VALUE_MESSAGE);
+            return new Snapshot<>(value, null, ticker.read() + timeToLiveNanos, 0);
+        } catch (Throwable e) {
+            var staleValue = previous == null ? null : previous.value;
+            var failures   = previous == null ? 1 : previous.consecutiveFailures + 1;
+            var now        = ticker.read();
+
+            if (onFailure instanceof OnFailure.RetryWithBackoff retry) {
+                var failure = staleValue == null ? e : null;
+                return new Snapshot<>(staleValue, failure, now + backoffNanos(retry, failures), failures);
+            }
+
+            var failure = staleValue == null || onFailure instanceof OnFailure.Surface ? e : null;
+            return new Snapshot<>(staleValue, failure, now + timeToLiveNanos, failures);
+        }
+    }
+
+    private long backoffNanos(@NotNull OnFailure.RetryWithBackoff retry, int failures) {
+        var cap     = Math.min(Lazy.toNanosSaturated(retry.maxBackoff()), timeToLiveNanos);
+        var initial = Lazy.toNanosSaturated(retry.initialBackoff());
+        // Avoid overflow by never shifting more than we need to reach the cap
+        var shift = Math.min(failures - 1, Long.numberOfLeadingZeros(initial) - 1);
+        return Math.min(cap, initial << shift);
+    }
+}
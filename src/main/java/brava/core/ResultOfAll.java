@@ -0,0 +1,226 @@
+package brava.core;
+
+import brava.core.tuples.Tuple;
+import brava.core.tuples.Tuple2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Runs a batch of suppliers for {@link Either#resultOfAll(Collection, BatchOptions)}, handing out their results as they complete.
+ *
+ * @implNote There's no dispatcher thread: the first {@link BatchOptions#maxConcurrency()} tasks are started up-front, and every task that
+ * finishes asks for the next one to be started. Those requests are {@link #requestLaunches(int) counted}, and whichever thread takes the count
+ * from zero submits tasks in a loop until it drops back to zero. That way, an executor that runs tasks on the calling thread
+ * <i>(like {@code Runnable::run}, or a {@link java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy})</i> doesn't recurse once per supplier.
+ * <p>
+ * When the batch is {@link #cancel(Throwable) cancelled}, tasks that haven't started are never submitted, and tasks that are running are
+ * interrupted.
+ */
+final class ResultOfAll<T> implements Iterator<Tuple2<Integer, Either<T, Throwable>>> {
+    private final @NotNull List<? extends Unchecked.Supplier<? extends T>>    suppliers;
+    private final @NotNull BatchOptions                                         options;
+    private final          long                                                 deadlineNanos;
+    private final          AtomicReferenceArray<Task>                           tasks;
+    private final          AtomicInteger                                        nextIndex = new AtomicInteger();
+    /**
+     * How many tasks we've been asked to launch that haven't been launched yet.
+     */
+    private final          AtomicInteger                                        launchRequests = new AtomicInteger();
+    private final          LinkedBlockingQueue<Tuple2<Integer, Either<T, Throwable>>> completed = new LinkedBlockingQueue<>();
+    /**
+     * Reported as the {@link Either#getB()} of everything that didn't finish in time.
+     */
+    private volatile @Nullable Throwable cancellation;
+    private                    int       delivered;
+
+    ResultOfAll(@NotNull Collection<? extends Unchecked.Supplier<? extends T>> suppliers, @NotNull BatchOptions options) {
+        this.suppliers     = List.copyOf(suppliers);
+        this.options       = options;
+        this.deadlineNanos = options.timeout().map(it -> System.nanoTime() + Lazy.toNanosSaturated(it)).orElse(0L);
+        this.tasks         = new AtomicReferenceArray<>(this.suppliers.size());
+
+        requestLaunches(Math.min(options.maxConcurrency(), this.suppliers.size()));
+    }
+
+    /**
+     * Launches {@code count} more tasks, either right now or, if another thread is already launching tasks, by handing them off to that thread.
+     */
+    private void requestLaunches(int count) {
+        if (count == 0 || launchRequests.getAndAdd(count) != 0) {
+            return;
+        }
+
+        var remaining = count;
+        do {
+            for (int i = 0; i < remaining; i++) {
+                launchNext();
+            }
+            remaining = launchRequests.addAndGet(-remaining);
+        } while (remaining != 0);
+    }
+
+    private void launchNext() {
+        var index = nextIndex.getAndIncrement();
+        if (index >= suppliers.size()) {
+            return;
+        }
+
+        var task = new Task(index);
+        tasks.set(index, task);
+        // If we were cancelled while we were creating the task, the canceller might not have seen it
+        if (cancellation != null) {
+            task.cancel(true);
+            return;
+        }
+
+        try {
+            options.executor().execute(task);
+        } catch (RejectedExecutionException e) {
+            // Reported through the task, so that it's reported exactly once even if we're cancelled at the same time
+            task.fail(e);
+        }
+    }
+
+    /**
+     * Stops the batch, reporting everything that hasn't finished as {@code reason}.
+     */
+    private void cancel(@NotNull Throwable reason) {
+        if (cancellation != null) {
+            return;
+        }
+        cancellation = reason;
+
+        var launched = Math.min(nextIndex.getAndSet(suppliers.size()), suppliers.size());
+        for (int i = 0; i < launched; i++) {
+            var task = tasks.get(i);
+            if (task != null) {
+                task.cancel(true);
+            }
+        }
+
+        for (int i = launched; i < suppliers.size(); i++) {
+            completed.add(Tuple.of(i, Either.ofB(reason)));
+        }
+    }
+
+    //region Iterator
+
+    @Override
+    public boolean hasNext() {
+        return delivered < suppliers.size();
+    }
+
+    /**
+     * @return the next result to complete, along with the index of its supplier
+     * @implNote If the current thread is interrupted while waiting, the batch is {@link #cancel(Throwable) cancelled}, and the interrupt flag is restored.
+     */
+    @Override
+    public @NotNull Tuple2<Integer, Either<T, Throwable>> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var next = completed.poll();
+        if (next == null) {
+            next = cancellation == null ? awaitNext() : awaitCancelled();
+        }
+
+        delivered++;
+        return next;
+    }
+
+    private @NotNull Tuple2<Integer, Either<T, Throwable>> awaitNext() {
+        try {
+            if (options.timeout().isEmpty()) {
+                return completed.take();
+            }
+
+            var next = completed.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                return next;
+            }
+            cancel(new TimeoutException("The batch didn't finish within its timeout of " + options.timeout().get()));
+        } catch (InterruptedException e) {
+            cancel(new CancellationException("The thread waiting for the batch was interrupted"));
+            Thread.currentThread().interrupt();
+        }
+
+        return awaitCancelled();
+    }
+
+    /**
+     * Waits for the next result once we've been {@link #cancel(Throwable) cancelled}.
+     *
+     * @implNote Almost everything is reported by {@link #cancel(Throwable)} itself, but a task that was finishing on another thread
+     * <i>(or being launched)</i> at the same time reports its own result, which might take a moment.
+     * We wait for it without being interrupted, because the interrupt flag is probably still set from the interrupt that cancelled us, and
+     * {@link LinkedBlockingQueue#take()} would otherwise throw right away, over and over.
+     */
+    private @NotNull Tuple2<Integer, Either<T, Throwable>> awaitCancelled() {
+        var interrupted = Thread.interrupted();
+        try {
+            while (true) {
+                try {
+                    return completed.take();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    //endregion
+
+    private final class Task extends FutureTask<Either<T, Throwable>> {
+        private final int index;
+
+        private Task(int index) {
+            super(() -> Either.resultOf(suppliers.get(index)));
+            this.index = index;
+        }
+
+        void fail(@NotNull Throwable e) {
+            setException(e);
+        }
+
+        @Override
+        protected void done() {
+            Either<T, Throwable> result;
+            if (isCancelled()) {
+                result = Either.ofB(cancellation);
+            } else {
+                try {
+                    result = get();
+                } catch (ExecutionException e) {
+                    // i.e. the supplier returned null, or the task was rejected
+                    result = Either.ofB(e.getCause());
+                } catch (InterruptedException e) {
+                    // Can't happen, because we're already done
+                    Thread.currentThread().interrupt();
+                    result = Either.ofB(e);
+                }
+            }
+
+            completed.add(Tuple.of(index, result));
+            requestLaunches(1);
+        }
+    }
+}
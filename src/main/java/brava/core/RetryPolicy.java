@@ -0,0 +1,154 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Describes how many times something should be attempted, and how long to wait between attempts.
+ * <p>
+ * The wait after the {@code n}th consecutive failure is {@code initialBackoff * 2^(n-1)}, capped at {@link #maxBackoff}, then randomly
+ * adjusted by up to &plusmn;{@link #jitter} of itself.
+ *
+ * @param maxAttempts    the total number of attempts, including the first one
+ * @param initialBackoff how long to wait after the first failure
+ * @param maxBackoff     the longest we'll ever wait between attempts
+ * @param jitter         the fraction <i>(between {@code 0} and {@code 1})</i> by which each backoff is randomly adjusted, so that many callers
+ *                       that failed at the same time don't all retry at the same time
+ * @see Lazy#of(Unchecked.Supplier, RetryPolicy)
+ */
+public record RetryPolicy(int maxAttempts, @NotNull Duration initialBackoff, @NotNull Duration maxBackoff, double jitter) {
+    /**
+     * Effectively infinite, but without overflowing {@link Duration#toNanos()}.
+     */
+    private static final Duration UNBOUNDED = Duration.ofNanos(Long.MAX_VALUE);
+
+    public RetryPolicy {
+        Preconditions.checkArgument(maxAttempts >= 1, "maxAttempts must be at least 1: %s", maxAttempts);
+        Preconditions.checkArgument(!initialBackoff.isNegative(), "initialBackoff must not be negative: %s", initialBackoff);
+        Preconditions.checkArgument(maxBackoff.compareTo(initialBackoff) >= 0, "maxBackoff (%s) must be >= initialBackoff (%s)", maxBackoff, initialBackoff);
+        Preconditions.checkArgument(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1: %s", jitter);
+        Preconditions.checkArgument(maxBackoff.compareTo(UNBOUNDED) <= 0, "maxBackoff must fit in a long number of nanoseconds: %s", maxBackoff);
+    }
+
+    /**
+     * Creates a {@link RetryPolicy} with exponential backoff, but no {@link #maxBackoff} or {@link #jitter}.
+     *
+     * @param maxAttempts    the total number of attempts, including the first one
+     * @param initialBackoff how long to wait after the first failure
+     * @return a new {@link RetryPolicy}
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull RetryPolicy of(int maxAttempts, @NotNull Duration initialBackoff) {
+        return new RetryPolicy(maxAttempts, initialBackoff, UNBOUNDED, 0);
+    }
+
+    /**
+     * @param maxBackoff the new {@link #maxBackoff}
+     * @return a copy of me with a different {@link #maxBackoff}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull RetryPolicy withMaxBackoff(@NotNull Duration maxBackoff) {
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, jitter);
+    }
+
+    /**
+     * @param jitter the new {@link #jitter}
+     * @return a copy of me with a different {@link #jitter}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull RetryPolicy withJitter(double jitter) {
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, jitter);
+    }
+
+    /**
+     * @param failures how many attempts have failed so far
+     * @return {@code true} if we're allowed to make another attempt
+     */
+    @Contract(pure = true)
+    public boolean canRetry(int failures) {
+        return failures < maxAttempts;
+    }
+
+    /**
+     * Invokes {@code supplier} until it succeeds or my {@link #maxAttempts} are used up, sleeping for the {@link #backoff(int)} in between.
+     *
+     * @param supplier some code that might throw a {@link Throwable}
+     * @return the first successful {@link T}, or the {@link Throwable} from the final attempt
+     * @see #retry(Supplier)
+     */
+    public <T> @NotNull Either<@NotNull T, @NotNull Throwable> resultOf(@NotNull Unchecked.Supplier<? extends @NotNull T> supplier) {
+        Objects.requireNonNull(supplier, "supplier");
+        return retry(() -> Either.resultOf(supplier));
+    }
+
+    /**
+     * Same as {@link #resultOf(Unchecked.Supplier)}, but for code that already returns an {@link Either}, so that it doesn't get wrapped twice:
+     * <pre>{@code
+     * Either<Response, Throwable> response = retryPolicy.retry(() -> circuitBreaker.resultOf(this::sendRequest));
+     * }</pre>
+     *
+     * @param attempt makes a single attempt
+     * @return the first {@link Either#hasA()} result, or the result of the final attempt
+     * @apiNote If the current thread is interrupted while sleeping, the result of the latest attempt is returned right away, and the interrupt flag is restored.
+     */
+    public <T> @NotNull Either<@NotNull T, @NotNull Throwable> retry(@NotNull Supplier<? extends Either<? extends T, ? extends Throwable>> attempt) {
+        var failures = 0;
+        while (true) {
+            Either<T, Throwable> result = Either.widen(attempt.get());
+            if (result.hasA()) {
+                return result;
+            }
+
+            failures++;
+            if (!canRetry(failures)) {
+                return result;
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(backoffNanos(failures));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+        }
+    }
+
+    /**
+     * @param failures how many attempts in a row have failed so far <i>(at least 1)</i>
+     * @return how long to wait before the next attempt <i>(including {@link #jitter})</i>
+     */
+    public @NotNull Duration backoff(int failures) {
+        return Duration.ofNanos(backoffNanos(failures));
+    }
+
+    /**
+     * The same as {@link #backoff(int)}, but without allocating a {@link Duration}.
+     */
+    long backoffNanos(int failures) {
+        Preconditions.checkArgument(failures >= 1, "failures must be at least 1: %s", failures);
+
+        var initial = initialBackoff.toNanos();
+        var max     = maxBackoff.toNanos();
+        if (initial == 0) {
+            return 0;
+        }
+
+        // Avoid overflow by never shifting past the highest bit
+        var shift   = Math.min(failures - 1, Long.numberOfLeadingZeros(initial) - 1);
+        var backoff = Math.min(max, initial << shift);
+
+        if (jitter == 0) {
+            return backoff;
+        }
+
+        var delta = (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble(-1, 1));
+        return delta > Long.MAX_VALUE - backoff ? Long.MAX_VALUE : Math.max(0, backoff + delta);
+    }
+}
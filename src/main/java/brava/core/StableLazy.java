@@ -0,0 +1,31 @@
+package brava.core;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * A {@link Lazy} value that the JIT compiler can treat like a {@code static final} constant once it has been computed.
+ *
+ * @param <T> the type of my value
+ * @apiNote This is intended for {@code static final} fields:
+ * <pre>{@code
+ * private static final StableLazy<Config> CONFIG = Lazy.stable(Config::load);
+ * }</pre>
+ * Once {@code CONFIG} has been initialized, a hot-path call to {@code CONFIG.get()} can be compiled down to a constant load, with no
+ * {@code volatile} read, branch, or cast - which is something that {@link Lazy#get()} can never do.
+ * <p>
+ * The trade-off is that the first computation is expensive <i>(it forces any compiled code that depends on me to be de-optimized)</i>,
+ * so this is a bad fit for short-lived instances. For those, use {@link Lazy#of(Unchecked.Supplier)}.
+ * @implSpec Like {@link Lazy}:
+ * <ul>
+ *     <li>The supplier is invoked <i>at most once</i>.</li>
+ *     <li>If the supplier throws an exception, that exception is re-thrown by every future call to {@link #get()}.</li>
+ *     <li>Once my value has been computed, no references to the supplier remain.</li>
+ * </ul>
+ * @implNote The JIT only trusts {@code final} <i>instance</i> fields to be constant in a few special cases, one of which is {@link Record}s.
+ * That's why this is a {@code sealed interface} over a {@link Record} that holds a {@link MutableCallSite} - see {@link CallSiteLazy}.
+ * @see Lazy#stable(Unchecked.Supplier)
+ */
+public sealed interface StableLazy<T> extends Unchecked.Supplier<@NotNull T> permits CallSiteLazy {
+}
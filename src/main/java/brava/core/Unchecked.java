@@ -6,6 +6,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Weird tricks Oracle HATES, including:
@@ -194,6 +196,158 @@ public final class Unchecked {
 
     //endregion
 
+    //region Primitive suppliers
+
+    /**
+     * A {@link java.util.function.IntSupplier} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Supplier
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface IntSupplier extends java.util.function.IntSupplier {
+        /**
+         * @return the resulting {@code int} value
+         * @throws Throwable whatever my code throws, untouched
+         */
+        int getAsIntChecked() throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #getAsIntChecked()} instead.
+         */
+        @Override
+        default int getAsInt() {
+            try {
+                return getAsIntChecked();
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.LongSupplier} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Supplier
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface LongSupplier extends java.util.function.LongSupplier {
+        /**
+         * @return the resulting {@code long} value
+         * @throws Throwable whatever my code throws, untouched
+         */
+        long getAsLongChecked() throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #getAsLongChecked()} instead.
+         */
+        @Override
+        default long getAsLong() {
+            try {
+                return getAsLongChecked();
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.DoubleSupplier} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Supplier
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface DoubleSupplier extends java.util.function.DoubleSupplier {
+        /**
+         * @return the resulting {@code double} value
+         * @throws Throwable whatever my code throws, untouched
+         */
+        double getAsDoubleChecked() throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #getAsDoubleChecked()} instead.
+         */
+        @Override
+        default double getAsDouble() {
+            try {
+                return getAsDoubleChecked();
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.BooleanSupplier} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Supplier
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface BooleanSupplier extends java.util.function.BooleanSupplier {
+        /**
+         * @return the resulting {@code boolean} value
+         * @throws Throwable whatever my code throws, untouched
+         */
+        boolean getAsBooleanChecked() throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #getAsBooleanChecked()} instead.
+         */
+        @Override
+        default boolean getAsBoolean() {
+            try {
+                return getAsBooleanChecked();
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * @param intSupplier code that returns an {@code int}
+     * @return a new {@link IntSupplier}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull IntSupplier intSupplier(@NotNull IntSupplier intSupplier) {
+        return Objects.requireNonNull(intSupplier, "intSupplier");
+    }
+
+    /**
+     * @param longSupplier code that returns a {@code long}
+     * @return a new {@link LongSupplier}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull LongSupplier longSupplier(@NotNull LongSupplier longSupplier) {
+        return Objects.requireNonNull(longSupplier, "longSupplier");
+    }
+
+    /**
+     * @param doubleSupplier code that returns a {@code double}
+     * @return a new {@link DoubleSupplier}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull DoubleSupplier doubleSupplier(@NotNull DoubleSupplier doubleSupplier) {
+        return Objects.requireNonNull(doubleSupplier, "doubleSupplier");
+    }
+
+    /**
+     * @param booleanSupplier code that returns a {@code boolean}
+     * @return a new {@link BooleanSupplier}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull BooleanSupplier booleanSupplier(@NotNull BooleanSupplier booleanSupplier) {
+        return Objects.requireNonNull(booleanSupplier, "booleanSupplier");
+    }
+
+    //endregion
+
     //region Function
 
     /**
@@ -302,6 +456,1245 @@ public final class Unchecked {
         return function.apply(input);
     }
 
+    /**
+     * Wraps an expensive {@link Function} so that concurrent calls with {@link Object#equals(Object) equal} inputs share a single invocation.
+     * <p>
+     * The first caller for a given input invokes the {@code function}; anybody else who asks for the same input while that's in flight waits
+     * for it, and then gets the same result <i>(or has the same {@link Throwable} {@link #rethrow(Throwable)}n at them)</i>.
+     * Once the call finishes, it's forgotten, so the next call with that input invokes the {@code function} again.
+     *
+     * <h1>Example</h1>
+     * <pre>{@code
+     * // When a popular cache entry expires, only one request actually hits the database
+     * var loadUser = Unchecked.singleFlight(database::loadUser);
+     * }</pre>
+     *
+     * @param function the code whose concurrent invocations should be coalesced
+     * @param <IN>     the input type, which is used as a {@link ConcurrentHashMap} key, and so must be non-null
+     * @param <OUT>    the output type
+     * @return a new {@link Function} that coalesces concurrent calls with equal inputs
+     * @apiNote This is <i>not</i> a cache: nothing is retained once every caller has its result.
+     * @implNote Each in-flight call is a {@link Lazy}, so waiting callers are parked on a {@link java.util.concurrent.locks.ReentrantLock}
+     * rather than pinning <a href="https://openjdk.org/jeps/444">virtual threads</a>.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <IN, OUT> @NotNull Function<@NotNull IN, OUT> singleFlight(@NotNull Function<? super IN, ? extends OUT> function) {
+        Objects.requireNonNull(function, "function");
+        var inFlight = new ConcurrentHashMap<IN, Lazy<Optional<OUT>>>();
+
+        return input -> {
+            Lazy<Optional<OUT>> call = inFlight.computeIfAbsent(input, it -> Lazy.ofNullable(() -> function.applyChecked(it)));
+            try {
+                return call.getChecked().orElse(null);
+            } finally {
+                // Only removes the call if a newer one hasn't already replaced it
+                inFlight.remove(input, call);
+            }
+        };
+    }
+
+    //endregion
+
+    //region Multi-argument functions
+
+    /**
+     * A {@link java.util.function.BiFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface BiFunction<A, B, OUT> extends java.util.function.BiFunction<A, B, OUT> {
+        /**
+         * Invokes this function as-is, without messing with its exceptions.
+         *
+         * @throws Throwable anything that the code throws, unaltered
+         */
+        OUT applyChecked(A a, B b) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyChecked(Object, Object)} instead.
+         */
+        @Override
+        @ApiStatus.NonExtendable
+        default OUT apply(A a, B b) {
+            try {
+                return applyChecked(a, b);
+            } catch (Throwable exception) {
+                return rethrow(exception);
+            }
+        }
+    }
+
+    /**
+     * A {@link brava.core.functional.TriFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface TriFunction<A, B, C, OUT> extends brava.core.functional.TriFunction<A, B, C, OUT> {
+        /**
+         * Invokes this function as-is, without messing with its exceptions.
+         *
+         * @throws Throwable anything that the code throws, unaltered
+         */
+        OUT applyChecked(A a, B b, C c) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyChecked(Object, Object, Object)} instead.
+         */
+        @Override
+        @ApiStatus.NonExtendable
+        default OUT apply(A a, B b, C c) {
+            try {
+                return applyChecked(a, b, c);
+            } catch (Throwable exception) {
+                return rethrow(exception);
+            }
+        }
+    }
+
+    /**
+     * A {@link brava.core.functional.QuadFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface QuadFunction<A, B, C, D, OUT> extends brava.core.functional.QuadFunction<A, B, C, D, OUT> {
+        /**
+         * Invokes this function as-is, without messing with its exceptions.
+         *
+         * @throws Throwable anything that the code throws, unaltered
+         */
+        OUT applyChecked(A a, B b, C c, D d) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyChecked(Object, Object, Object, Object)} instead.
+         */
+        @Override
+        @ApiStatus.NonExtendable
+        default OUT apply(A a, B b, C c, D d) {
+            try {
+                return applyChecked(a, b, c, d);
+            } catch (Throwable exception) {
+                return rethrow(exception);
+            }
+        }
+    }
+
+    /**
+     * A {@link brava.core.functional.PentaFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface PentaFunction<A, B, C, D, E, OUT> extends brava.core.functional.PentaFunction<A, B, C, D, E, OUT> {
+        /**
+         * Invokes this function as-is, without messing with its exceptions.
+         *
+         * @throws Throwable anything that the code throws, unaltered
+         */
+        OUT applyChecked(A a, B b, C c, D d, E e) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyChecked(Object, Object, Object, Object, Object)} instead.
+         */
+        @Override
+        @ApiStatus.NonExtendable
+        default OUT apply(A a, B b, C c, D d, E e) {
+            try {
+                return applyChecked(a, b, c, d, e);
+            } catch (Throwable exception) {
+                return rethrow(exception);
+            }
+        }
+    }
+
+    /**
+     * A {@link brava.core.functional.HexaFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface HexaFunction<A, B, C, D, E, F, OUT> extends brava.core.functional.HexaFunction<A, B, C, D, E, F, OUT> {
+        /**
+         * Invokes this function as-is, without messing with its exceptions.
+         *
+         * @throws Throwable anything that the code throws, unaltered
+         */
+        OUT applyChecked(A a, B b, C c, D d, E e, F f) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyChecked(Object, Object, Object, Object, Object, Object)} instead.
+         */
+        @Override
+        @ApiStatus.NonExtendable
+        default OUT apply(A a, B b, C c, D d, E e, F f) {
+            try {
+                return applyChecked(a, b, c, d, e, f);
+            } catch (Throwable exception) {
+                return rethrow(exception);
+            }
+        }
+    }
+
+    //endregion
+
+    //region Primitive functions
+
+    /**
+     * A {@link java.util.function.ToIntFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface ToIntFunction<T> extends java.util.function.ToIntFunction<T> {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code int}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        int applyAsIntChecked(T value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsIntChecked(Object)} instead.
+         */
+        @Override
+        default int applyAsInt(T value) {
+            try {
+                return applyAsIntChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.ToLongFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface ToLongFunction<T> extends java.util.function.ToLongFunction<T> {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code long}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        long applyAsLongChecked(T value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsLongChecked(Object)} instead.
+         */
+        @Override
+        default long applyAsLong(T value) {
+            try {
+                return applyAsLongChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.ToDoubleFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface ToDoubleFunction<T> extends java.util.function.ToDoubleFunction<T> {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code double}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        double applyAsDoubleChecked(T value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsDoubleChecked(Object)} instead.
+         */
+        @Override
+        default double applyAsDouble(T value) {
+            try {
+                return applyAsDoubleChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.IntUnaryOperator} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface IntUnaryOperator extends java.util.function.IntUnaryOperator {
+        /**
+         * @param operand the operand
+         * @return the resulting {@code int}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        int applyAsIntChecked(int operand) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsIntChecked(int)} instead.
+         */
+        @Override
+        default int applyAsInt(int operand) {
+            try {
+                return applyAsIntChecked(operand);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.LongUnaryOperator} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface LongUnaryOperator extends java.util.function.LongUnaryOperator {
+        /**
+         * @param operand the operand
+         * @return the resulting {@code long}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        long applyAsLongChecked(long operand) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsLongChecked(long)} instead.
+         */
+        @Override
+        default long applyAsLong(long operand) {
+            try {
+                return applyAsLongChecked(operand);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.DoubleUnaryOperator} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface DoubleUnaryOperator extends java.util.function.DoubleUnaryOperator {
+        /**
+         * @param operand the operand
+         * @return the resulting {@code double}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        double applyAsDoubleChecked(double operand) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsDoubleChecked(double)} instead.
+         */
+        @Override
+        default double applyAsDouble(double operand) {
+            try {
+                return applyAsDoubleChecked(operand);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.IntBinaryOperator} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface IntBinaryOperator extends java.util.function.IntBinaryOperator {
+        /**
+         * @param left  the first operand
+         * @param right the second operand
+         * @return the resulting {@code int}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        int applyAsIntChecked(int left, int right) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsIntChecked(int, int)} instead.
+         */
+        @Override
+        default int applyAsInt(int left, int right) {
+            try {
+                return applyAsIntChecked(left, right);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.LongBinaryOperator} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface LongBinaryOperator extends java.util.function.LongBinaryOperator {
+        /**
+         * @param left  the first operand
+         * @param right the second operand
+         * @return the resulting {@code long}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        long applyAsLongChecked(long left, long right) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsLongChecked(long, long)} instead.
+         */
+        @Override
+        default long applyAsLong(long left, long right) {
+            try {
+                return applyAsLongChecked(left, right);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.DoubleBinaryOperator} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface DoubleBinaryOperator extends java.util.function.DoubleBinaryOperator {
+        /**
+         * @param left  the first operand
+         * @param right the second operand
+         * @return the resulting {@code double}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        double applyAsDoubleChecked(double left, double right) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsDoubleChecked(double, double)} instead.
+         */
+        @Override
+        default double applyAsDouble(double left, double right) {
+            try {
+                return applyAsDoubleChecked(left, right);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.IntFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface IntFunction<R> extends java.util.function.IntFunction<R> {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@link R}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        R applyChecked(int value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyChecked(int)} instead.
+         */
+        @Override
+        default R apply(int value) {
+            try {
+                return applyChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.LongFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface LongFunction<R> extends java.util.function.LongFunction<R> {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@link R}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        R applyChecked(long value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyChecked(long)} instead.
+         */
+        @Override
+        default R apply(long value) {
+            try {
+                return applyChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.DoubleFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface DoubleFunction<R> extends java.util.function.DoubleFunction<R> {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@link R}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        R applyChecked(double value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyChecked(double)} instead.
+         */
+        @Override
+        default R apply(double value) {
+            try {
+                return applyChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.IntToLongFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface IntToLongFunction extends java.util.function.IntToLongFunction {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code long}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        long applyAsLongChecked(int value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsLongChecked(int)} instead.
+         */
+        @Override
+        default long applyAsLong(int value) {
+            try {
+                return applyAsLongChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.IntToDoubleFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface IntToDoubleFunction extends java.util.function.IntToDoubleFunction {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code double}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        double applyAsDoubleChecked(int value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsDoubleChecked(int)} instead.
+         */
+        @Override
+        default double applyAsDouble(int value) {
+            try {
+                return applyAsDoubleChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.LongToIntFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface LongToIntFunction extends java.util.function.LongToIntFunction {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code int}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        int applyAsIntChecked(long value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsIntChecked(long)} instead.
+         */
+        @Override
+        default int applyAsInt(long value) {
+            try {
+                return applyAsIntChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.LongToDoubleFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface LongToDoubleFunction extends java.util.function.LongToDoubleFunction {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code double}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        double applyAsDoubleChecked(long value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsDoubleChecked(long)} instead.
+         */
+        @Override
+        default double applyAsDouble(long value) {
+            try {
+                return applyAsDoubleChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.DoubleToIntFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface DoubleToIntFunction extends java.util.function.DoubleToIntFunction {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code int}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        int applyAsIntChecked(double value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsIntChecked(double)} instead.
+         */
+        @Override
+        default int applyAsInt(double value) {
+            try {
+                return applyAsIntChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.DoubleToLongFunction} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface DoubleToLongFunction extends java.util.function.DoubleToLongFunction {
+        /**
+         * @param value the input to the function
+         * @return the resulting {@code long}
+         * @throws Throwable whatever my code throws, untouched
+         */
+        long applyAsLongChecked(double value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #applyAsLongChecked(double)} instead.
+         */
+        @Override
+        default long applyAsLong(double value) {
+            try {
+                return applyAsLongChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * @param toIntFunction code that turns a {@link T} into an {@code int}
+     * @return a new {@link ToIntFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <T> @NotNull ToIntFunction<T> toIntFunction(@NotNull ToIntFunction<T> toIntFunction) {
+        return Objects.requireNonNull(toIntFunction, "toIntFunction");
+    }
+
+    /**
+     * Creates a special {@link java.util.function.ToLongFunction} from a lambda expression that is allowed to throw checked {@link Exception}s.
+     *
+     * <h1>Example</h1>
+     * Using {@link Function}, which boxes every element:
+     * <pre>{@code
+     * paths.stream()
+     *     .map(Unchecked.function(Files::size))
+     *     .mapToLong(Long::longValue);
+     * }</pre>
+     * Using {@link #toLongFunction(ToLongFunction)}:
+     * <pre>{@code
+     * paths.stream()
+     *     .mapToLong(Unchecked.toLongFunction(Files::size));
+     * }</pre>
+     *
+     * @param toLongFunction code that turns a {@link T} into a {@code long}
+     * @return a new {@link ToLongFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <T> @NotNull ToLongFunction<T> toLongFunction(@NotNull ToLongFunction<T> toLongFunction) {
+        return Objects.requireNonNull(toLongFunction, "toLongFunction");
+    }
+
+    /**
+     * @param toDoubleFunction code that turns a {@link T} into a {@code double}
+     * @return a new {@link ToDoubleFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <T> @NotNull ToDoubleFunction<T> toDoubleFunction(@NotNull ToDoubleFunction<T> toDoubleFunction) {
+        return Objects.requireNonNull(toDoubleFunction, "toDoubleFunction");
+    }
+
+    /**
+     * @param intUnaryOperator code that transforms an {@code int}
+     * @return a new {@link IntUnaryOperator}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull IntUnaryOperator intUnaryOperator(@NotNull IntUnaryOperator intUnaryOperator) {
+        return Objects.requireNonNull(intUnaryOperator, "intUnaryOperator");
+    }
+
+    /**
+     * @param longUnaryOperator code that transforms a {@code long}
+     * @return a new {@link LongUnaryOperator}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull LongUnaryOperator longUnaryOperator(@NotNull LongUnaryOperator longUnaryOperator) {
+        return Objects.requireNonNull(longUnaryOperator, "longUnaryOperator");
+    }
+
+    /**
+     * @param doubleUnaryOperator code that transforms a {@code double}
+     * @return a new {@link DoubleUnaryOperator}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull DoubleUnaryOperator doubleUnaryOperator(@NotNull DoubleUnaryOperator doubleUnaryOperator) {
+        return Objects.requireNonNull(doubleUnaryOperator, "doubleUnaryOperator");
+    }
+
+    /**
+     * @param intBinaryOperator code that combines two {@code int}s
+     * @return a new {@link IntBinaryOperator}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull IntBinaryOperator intBinaryOperator(@NotNull IntBinaryOperator intBinaryOperator) {
+        return Objects.requireNonNull(intBinaryOperator, "intBinaryOperator");
+    }
+
+    /**
+     * @param longBinaryOperator code that combines two {@code long}s
+     * @return a new {@link LongBinaryOperator}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull LongBinaryOperator longBinaryOperator(@NotNull LongBinaryOperator longBinaryOperator) {
+        return Objects.requireNonNull(longBinaryOperator, "longBinaryOperator");
+    }
+
+    /**
+     * @param doubleBinaryOperator code that combines two {@code double}s
+     * @return a new {@link DoubleBinaryOperator}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull DoubleBinaryOperator doubleBinaryOperator(@NotNull DoubleBinaryOperator doubleBinaryOperator) {
+        return Objects.requireNonNull(doubleBinaryOperator, "doubleBinaryOperator");
+    }
+
+    /**
+     * @param intFunction code that turns an {@code int} into an {@link R}
+     * @return a new {@link IntFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <R> @NotNull IntFunction<R> intFunction(@NotNull IntFunction<R> intFunction) {
+        return Objects.requireNonNull(intFunction, "intFunction");
+    }
+
+    /**
+     * @param longFunction code that turns a {@code long} into an {@link R}
+     * @return a new {@link LongFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <R> @NotNull LongFunction<R> longFunction(@NotNull LongFunction<R> longFunction) {
+        return Objects.requireNonNull(longFunction, "longFunction");
+    }
+
+    /**
+     * @param doubleFunction code that turns a {@code double} into an {@link R}
+     * @return a new {@link DoubleFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <R> @NotNull DoubleFunction<R> doubleFunction(@NotNull DoubleFunction<R> doubleFunction) {
+        return Objects.requireNonNull(doubleFunction, "doubleFunction");
+    }
+
+    /**
+     * @param intToLongFunction code that turns an {@code int} into a {@code long}
+     * @return a new {@link IntToLongFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull IntToLongFunction intToLongFunction(@NotNull IntToLongFunction intToLongFunction) {
+        return Objects.requireNonNull(intToLongFunction, "intToLongFunction");
+    }
+
+    /**
+     * @param intToDoubleFunction code that turns an {@code int} into a {@code double}
+     * @return a new {@link IntToDoubleFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull IntToDoubleFunction intToDoubleFunction(@NotNull IntToDoubleFunction intToDoubleFunction) {
+        return Objects.requireNonNull(intToDoubleFunction, "intToDoubleFunction");
+    }
+
+    /**
+     * @param longToIntFunction code that turns a {@code long} into an {@code int}
+     * @return a new {@link LongToIntFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull LongToIntFunction longToIntFunction(@NotNull LongToIntFunction longToIntFunction) {
+        return Objects.requireNonNull(longToIntFunction, "longToIntFunction");
+    }
+
+    /**
+     * @param longToDoubleFunction code that turns a {@code long} into a {@code double}
+     * @return a new {@link LongToDoubleFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull LongToDoubleFunction longToDoubleFunction(@NotNull LongToDoubleFunction longToDoubleFunction) {
+        return Objects.requireNonNull(longToDoubleFunction, "longToDoubleFunction");
+    }
+
+    /**
+     * @param doubleToIntFunction code that turns a {@code double} into an {@code int}
+     * @return a new {@link DoubleToIntFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull DoubleToIntFunction doubleToIntFunction(@NotNull DoubleToIntFunction doubleToIntFunction) {
+        return Objects.requireNonNull(doubleToIntFunction, "doubleToIntFunction");
+    }
+
+    /**
+     * @param doubleToLongFunction code that turns a {@code double} into a {@code long}
+     * @return a new {@link DoubleToLongFunction}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull DoubleToLongFunction doubleToLongFunction(@NotNull DoubleToLongFunction doubleToLongFunction) {
+        return Objects.requireNonNull(doubleToLongFunction, "doubleToLongFunction");
+    }
+
+    //endregion
+
+    //region Consumers and predicates
+
+    /**
+     * A {@link java.util.function.Consumer} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Runnable
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface Consumer<T> extends java.util.function.Consumer<T> {
+        /**
+         * @param value the input
+         * @throws Throwable whatever my code throws, untouched
+         */
+        void acceptChecked(T value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #acceptChecked(Object)} instead.
+         */
+        @Override
+        default void accept(T value) {
+            try {
+                acceptChecked(value);
+            } catch (Throwable e) {
+                rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.BiConsumer} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Runnable
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface BiConsumer<T, U> extends java.util.function.BiConsumer<T, U> {
+        /**
+         * @param first  the first input
+         * @param second the second input
+         * @throws Throwable whatever my code throws, untouched
+         */
+        void acceptChecked(T first, U second) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #acceptChecked(Object, Object)} instead.
+         */
+        @Override
+        default void accept(T first, U second) {
+            try {
+                acceptChecked(first, second);
+            } catch (Throwable e) {
+                rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.IntConsumer} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Runnable
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface IntConsumer extends java.util.function.IntConsumer {
+        /**
+         * @param value the input
+         * @throws Throwable whatever my code throws, untouched
+         */
+        void acceptChecked(int value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #acceptChecked(int)} instead.
+         */
+        @Override
+        default void accept(int value) {
+            try {
+                acceptChecked(value);
+            } catch (Throwable e) {
+                rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.LongConsumer} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Runnable
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface LongConsumer extends java.util.function.LongConsumer {
+        /**
+         * @param value the input
+         * @throws Throwable whatever my code throws, untouched
+         */
+        void acceptChecked(long value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #acceptChecked(long)} instead.
+         */
+        @Override
+        default void accept(long value) {
+            try {
+                acceptChecked(value);
+            } catch (Throwable e) {
+                rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.DoubleConsumer} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Runnable
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface DoubleConsumer extends java.util.function.DoubleConsumer {
+        /**
+         * @param value the input
+         * @throws Throwable whatever my code throws, untouched
+         */
+        void acceptChecked(double value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #acceptChecked(double)} instead.
+         */
+        @Override
+        default void accept(double value) {
+            try {
+                acceptChecked(value);
+            } catch (Throwable e) {
+                rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.Predicate} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface Predicate<T> extends java.util.function.Predicate<T> {
+        /**
+         * @param value the input
+         * @return {@code true} if the {@code value} matches
+         * @throws Throwable whatever my code throws, untouched
+         */
+        boolean testChecked(T value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #testChecked(Object)} instead.
+         */
+        @Override
+        default boolean test(T value) {
+            try {
+                return testChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.IntPredicate} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface IntPredicate extends java.util.function.IntPredicate {
+        /**
+         * @param value the input
+         * @return {@code true} if the {@code value} matches
+         * @throws Throwable whatever my code throws, untouched
+         */
+        boolean testChecked(int value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #testChecked(int)} instead.
+         */
+        @Override
+        default boolean test(int value) {
+            try {
+                return testChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.LongPredicate} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface LongPredicate extends java.util.function.LongPredicate {
+        /**
+         * @param value the input
+         * @return {@code true} if the {@code value} matches
+         * @throws Throwable whatever my code throws, untouched
+         */
+        boolean testChecked(long value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #testChecked(long)} instead.
+         */
+        @Override
+        default boolean test(long value) {
+            try {
+                return testChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link java.util.function.DoublePredicate} that can {@link #rethrow(Throwable)} checked {@link Exception}s.
+     *
+     * @see Function
+     */
+    @FunctionalInterface
+    @ApiStatus.NonExtendable
+    public interface DoublePredicate extends java.util.function.DoublePredicate {
+        /**
+         * @param value the input
+         * @return {@code true} if the {@code value} matches
+         * @throws Throwable whatever my code throws, untouched
+         */
+        boolean testChecked(double value) throws Throwable;
+
+        /**
+         * @apiNote any checked {@link Exception}s will be {@link #rethrow(Throwable)}n <i><b>without being wrapped</b></i>.
+         * If you wish to maintain the checked nature of the exception, use {@link #testChecked(double)} instead.
+         */
+        @Override
+        default boolean test(double value) {
+            try {
+                return testChecked(value);
+            } catch (Throwable e) {
+                return rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * @param consumer code that does something with a {@link T}
+     * @return a new {@link Consumer}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <T> @NotNull Consumer<T> consumer(@NotNull Consumer<T> consumer) {
+        return Objects.requireNonNull(consumer, "consumer");
+    }
+
+    /**
+     * @param biConsumer code that does something with a {@link T} and a {@link U}
+     * @return a new {@link BiConsumer}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <T, U> @NotNull BiConsumer<T, U> biConsumer(@NotNull BiConsumer<T, U> biConsumer) {
+        return Objects.requireNonNull(biConsumer, "biConsumer");
+    }
+
+    /**
+     * @param intConsumer code that does something with an {@code int}
+     * @return a new {@link IntConsumer}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull IntConsumer intConsumer(@NotNull IntConsumer intConsumer) {
+        return Objects.requireNonNull(intConsumer, "intConsumer");
+    }
+
+    /**
+     * @param longConsumer code that does something with a {@code long}
+     * @return a new {@link LongConsumer}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull LongConsumer longConsumer(@NotNull LongConsumer longConsumer) {
+        return Objects.requireNonNull(longConsumer, "longConsumer");
+    }
+
+    /**
+     * @param doubleConsumer code that does something with a {@code double}
+     * @return a new {@link DoubleConsumer}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull DoubleConsumer doubleConsumer(@NotNull DoubleConsumer doubleConsumer) {
+        return Objects.requireNonNull(doubleConsumer, "doubleConsumer");
+    }
+
+    /**
+     * @param predicate code that tests a {@link T}
+     * @return a new {@link Predicate}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static <T> @NotNull Predicate<T> predicate(@NotNull Predicate<T> predicate) {
+        return Objects.requireNonNull(predicate, "predicate");
+    }
+
+    /**
+     * @param intPredicate code that tests an {@code int}
+     * @return a new {@link IntPredicate}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull IntPredicate intPredicate(@NotNull IntPredicate intPredicate) {
+        return Objects.requireNonNull(intPredicate, "intPredicate");
+    }
+
+    /**
+     * @param longPredicate code that tests a {@code long}
+     * @return a new {@link LongPredicate}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull LongPredicate longPredicate(@NotNull LongPredicate longPredicate) {
+        return Objects.requireNonNull(longPredicate, "longPredicate");
+    }
+
+    /**
+     * @param doublePredicate code that tests a {@code double}
+     * @return a new {@link DoublePredicate}
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    public static @NotNull DoublePredicate doublePredicate(@NotNull DoublePredicate doublePredicate) {
+        return Objects.requireNonNull(doublePredicate, "doublePredicate");
+    }
+
     //endregion
 
     //region Runnable
@@ -0,0 +1,155 @@
+package brava.core;
+
+import brava.core.exceptions.Problem;
+import brava.core.functional.HexaFunction;
+import brava.core.functional.PentaFunction;
+import brava.core.functional.QuadFunction;
+import brava.core.functional.TriFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Combines independent {@link Either}s that might have failed with a {@link Problem}, reporting <i><b>all</b></i> of their {@link Problem}s at once.
+ * <p>
+ * Chaining {@link Either#flatMapA(java.util.function.Function)} stops at the first {@link Problem}, which means that somebody fixing their
+ * input only finds out about the next {@link Problem} after they've fixed the previous one.
+ * When the inputs don't depend on each other, you can {@link #combine(Either, Either, BiFunction)} them instead:
+ * <pre>{@code
+ * Either<User, List<Problem>> user = Validated.combine(
+ *     validateName(request.name()),     // Either<String, Problem>
+ *     validateEmail(request.email()),   // Either<Email, Problem>
+ *     validateAge(request.age()),       // Either<Integer, Problem>
+ *     User::new
+ * );
+ *
+ * return Validated.orThrow(user);       // throws a BigProblemException listing every Problem
+ * }</pre>
+ *
+ * @apiNote If every input {@link Either#hasA()}, the {@code combiner} is invoked directly, without allocating anything other than the result.
+ */
+public final class Validated {
+    private Validated() {
+        throw new UnsupportedOperationException("🚪🩸");
+    }
+
+    //region Combining
+
+    /**
+     * @return the result of the {@code combiner} if every input {@link Either#hasA()}; otherwise, <i>all</i> of their {@link Problem}s, in order
+     */
+    public static <A, B, OUT> @NotNull Either<@NotNull OUT, @NotNull @Unmodifiable List<Problem>> combine(
+          @NotNull Either<? extends A, Problem> a,
+          @NotNull Either<? extends B, Problem> b,
+          @NotNull BiFunction<? super A, ? super B, ? extends OUT> combiner
+    ) {
+        if (a.hasA() && b.hasA()) {
+            return Either.ofA(combiner.apply(a.unsafeA(), b.unsafeA()));
+        }
+
+        return Either.ofB(problems(a, b));
+    }
+
+    /**
+     * @return the result of the {@code combiner} if every input {@link Either#hasA()}; otherwise, <i>all</i> of their {@link Problem}s, in order
+     */
+    public static <A, B, C, OUT> @NotNull Either<@NotNull OUT, @NotNull @Unmodifiable List<Problem>> combine(
+          @NotNull Either<? extends A, Problem> a,
+          @NotNull Either<? extends B, Problem> b,
+          @NotNull Either<? extends C, Problem> c,
+          @NotNull TriFunction<? super A, ? super B, ? super C, ? extends OUT> combiner
+    ) {
+        if (a.hasA() && b.hasA() && c.hasA()) {
+            return Either.ofA(combiner.apply(a.unsafeA(), b.unsafeA(), c.unsafeA()));
+        }
+
+        return Either.ofB(problems(a, b, c));
+    }
+
+    /**
+     * @return the result of the {@code combiner} if every input {@link Either#hasA()}; otherwise, <i>all</i> of their {@link Problem}s, in order
+     */
+    public static <A, B, C, D, OUT> @NotNull Either<@NotNull OUT, @NotNull @Unmodifiable List<Problem>> combine(
+          @NotNull Either<? extends A, Problem> a,
+          @NotNull Either<? extends B, Problem> b,
+          @NotNull Either<? extends C, Problem> c,
+          @NotNull Either<? extends D, Problem> d,
+          @NotNull QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends OUT> combiner
+    ) {
+        if (a.hasA() && b.hasA() && c.hasA() && d.hasA()) {
+            return Either.ofA(combiner.apply(a.unsafeA(), b.unsafeA(), c.unsafeA(), d.unsafeA()));
+        }
+
+        return Either.ofB(problems(a, b, c, d));
+    }
+
+    /**
+     * @return the result of the {@code combiner} if every input {@link Either#hasA()}; otherwise, <i>all</i> of their {@link Problem}s, in order
+     */
+    public static <A, B, C, D, E, OUT> @NotNull Either<@NotNull OUT, @NotNull @Unmodifiable List<Problem>> combine(
+          @NotNull Either<? extends A, Problem> a,
+          @NotNull Either<? extends B, Problem> b,
+          @NotNull Either<? extends C, Problem> c,
+          @NotNull Either<? extends D, Problem> d,
+          @NotNull Either<? extends E, Problem> e,
+          @NotNull PentaFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? extends OUT> combiner
+    ) {
+        if (a.hasA() && b.hasA() && c.hasA() && d.hasA() && e.hasA()) {
+            return Either.ofA(combiner.apply(a.unsafeA(), b.unsafeA(), c.unsafeA(), d.unsafeA(), e.unsafeA()));
+        }
+
+        return Either.ofB(problems(a, b, c, d, e));
+    }
+
+    /**
+     * @return the result of the {@code combiner} if every input {@link Either#hasA()}; otherwise, <i>all</i> of their {@link Problem}s, in order
+     */
+    public static <A, B, C, D, E, F, OUT> @NotNull Either<@NotNull OUT, @NotNull @Unmodifiable List<Problem>> combine(
+          @NotNull Either<? extends A, Problem> a,
+          @NotNull Either<? extends B, Problem> b,
+          @NotNull Either<? extends C, Problem> c,
+          @NotNull Either<? extends D, Problem> d,
+          @NotNull Either<? extends E, Problem> e,
+          @NotNull Either<? extends F, Problem> f,
+          @NotNull HexaFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends OUT> combiner
+    ) {
+        if (a.hasA() && b.hasA() && c.hasA() && d.hasA() && e.hasA() && f.hasA()) {
+            return Either.ofA(combiner.apply(a.unsafeA(), b.unsafeA(), c.unsafeA(), d.unsafeA(), e.unsafeA(), f.unsafeA()));
+        }
+
+        return Either.ofB(problems(a, b, c, d, e, f));
+    }
+
+    /**
+     * Only called once we already know that something failed, so the varargs array doesn't matter.
+     */
+    @SafeVarargs
+    private static @NotNull @Unmodifiable List<Problem> problems(@NotNull Either<?, Problem> @NotNull ... eithers) {
+        var problems = new ArrayList<Problem>(eithers.length);
+        for (var either : eithers) {
+            if (either.hasB()) {
+                problems.add(either.unsafeB());
+            }
+        }
+        return Collections.unmodifiableList(problems);
+    }
+
+    //endregion
+
+    /**
+     * @param validated the result of {@link #combine(Either, Either, BiFunction)}
+     * @return the successful {@link T} value
+     * @throws Problem.BigProblemException listing every {@link Problem}, if there were any
+     */
+    public static <T> @NotNull T orThrow(@NotNull Either<? extends T, ? extends List<Problem>> validated) {
+        if (validated.hasA()) {
+            return validated.unsafeA();
+        }
+
+        throw new Problem.BigProblemException(validated.unsafeB());
+    }
+}
@@ -0,0 +1,62 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Gives access to <a href="https://openjdk.org/jeps/444">virtual threads</a> without requiring Java 21 to compile.
+ *
+ * @implNote The {@link ThreadFactory} is looked up reflectively, exactly once. If we're running on a Java version without virtual threads,
+ * we fall back to platform threads.
+ */
+final class VirtualThreads {
+    private VirtualThreads() {
+        throw new UnsupportedOperationException("🚪🩸");
+    }
+
+    @Nullable
+    private static final ThreadFactory FACTORY  = findFactory();
+    @NotNull
+    private static final Executor      EXECUTOR = FACTORY == null ? ForkJoinPool.commonPool() : command -> FACTORY.newThread(command).start();
+
+    private static @Nullable ThreadFactory findFactory() {
+        try {
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            var factory = Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            return (ThreadFactory) factory;
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return {@code true} if the current JVM supports virtual threads
+     */
+    @Contract(pure = true)
+    static boolean isAvailable() {
+        return FACTORY != null;
+    }
+
+    /**
+     * @return a {@link ThreadFactory} that creates <i>(unstarted)</i> virtual threads, if they are {@link #isAvailable()}
+     */
+    @Contract(pure = true)
+    static @NotNull Optional<ThreadFactory> factory() {
+        return Optional.ofNullable(FACTORY);
+    }
+
+    /**
+     * @return an {@link Executor} that starts a new virtual thread for each task if they are {@link #isAvailable()};
+     * otherwise, the {@link ForkJoinPool#commonPool()}
+     */
+    @Contract(pure = true)
+    static @NotNull Executor executor() {
+        return EXECUTOR;
+    }
+}
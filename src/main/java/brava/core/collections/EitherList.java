@@ -0,0 +1,565 @@
+package brava.core.collections;
+
+import brava.core.Either;
+import brava.core.Unchecked;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * An append-only {@link List} of {@link Either}s that stores its {@link A}s and {@link B}s in separate, dense arrays <i>("columns")</i>
+ * instead of as individual {@link Either} objects.
+ * <p>
+ * Holding a million {@code Either<Long, Throwable>}s in an {@link java.util.ArrayList} costs a reference, an {@link Either} and a {@link Long}
+ * per element. {@link #ofLongs()} stores the same thing as a {@code long[]}, the {@link B}s, and a single bit per element saying which is which.
+ *
+ * <h2>Choosing the {@link A} column</h2>
+ * <ul>
+ *     <li>{@link #ofObjects()}: any {@link A}</li>
+ *     <li>{@link #ofLongs()}, {@link #ofInts()}, {@link #ofDoubles()}: unboxed primitives</li>
+ * </ul>
+ *
+ * @param <A> one possibility
+ * @param <B> an alternate universe
+ * @apiNote {@link #get(int)} creates a new {@link Either} each time it's called. If you only need one side, {@link #getA(int)}, {@link #getB(int)}
+ * and the primitive accessors like {@link OfLongs#getLong(int)} avoid that.
+ * @implNote The bitmap uses the same layout as a {@link java.util.BitSet}, but alongside it I keep the number of {@link B}s preceding each 64-bit word,
+ * so that finding an element's position in its column takes constant time.
+ */
+public abstract sealed class EitherList<A, B> implements ListBase<Either<A, B>>
+      permits EitherList.OfObjects, EitherList.OfLongs, EitherList.OfInts, EitherList.OfDoubles {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * A set bit means that the element at that index {@link Either#hasB()}.
+     */
+    private long[]   sides = new long[1];
+    /**
+     * The number of {@link B}s before each word of {@link #sides}.
+     */
+    private int[]    ranks = new int[1];
+    private Object[] bs    = new Object[DEFAULT_CAPACITY];
+    private int      size;
+    private int      bCount;
+
+    private EitherList() {
+    }
+
+    //region Factories
+
+    /**
+     * @return a new, empty {@link EitherList} that can hold any {@link A}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static <A, B> @NotNull OfObjects<A, B> ofObjects() {
+        return new OfObjects<>();
+    }
+
+    /**
+     * @return a new, empty {@link EitherList} that stores its {@link A}s as a {@code long[]}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static <B> @NotNull OfLongs<B> ofLongs() {
+        return new OfLongs<>();
+    }
+
+    /**
+     * @return a new, empty {@link EitherList} that stores its {@link A}s as an {@code int[]}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static <B> @NotNull OfInts<B> ofInts() {
+        return new OfInts<>();
+    }
+
+    /**
+     * @return a new, empty {@link EitherList} that stores its {@link A}s as a {@code double[]}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static <B> @NotNull OfDoubles<B> ofDoubles() {
+        return new OfDoubles<>();
+    }
+
+    //endregion
+
+    //region Collectors
+
+    /**
+     * @return a {@link Collector} that gathers {@link Either}s into {@link #ofObjects()}
+     */
+    @Contract(pure = true)
+    public static <A, B> @NotNull Collector<Either<? extends A, ? extends B>, ?, OfObjects<A, B>> toEitherList() {
+        return collector(OfObjects::new);
+    }
+
+    /**
+     * @return a {@link Collector} that gathers {@link Either}s into {@link #ofLongs()}
+     */
+    @Contract(pure = true)
+    public static <B> @NotNull Collector<Either<? extends Long, ? extends B>, ?, OfLongs<B>> toLongEitherList() {
+        return collector(OfLongs::new);
+    }
+
+    /**
+     * @return a {@link Collector} that gathers {@link Either}s into {@link #ofInts()}
+     */
+    @Contract(pure = true)
+    public static <B> @NotNull Collector<Either<? extends Integer, ? extends B>, ?, OfInts<B>> toIntEitherList() {
+        return collector(OfInts::new);
+    }
+
+    /**
+     * @return a {@link Collector} that gathers {@link Either}s into {@link #ofDoubles()}
+     */
+    @Contract(pure = true)
+    public static <B> @NotNull Collector<Either<? extends Double, ? extends B>, ?, OfDoubles<B>> toDoubleEitherList() {
+        return collector(OfDoubles::new);
+    }
+
+    private static <A, B, L extends EitherList<A, B>> @NotNull Collector<Either<? extends A, ? extends B>, L, L> collector(@NotNull Supplier<L> factory) {
+        return Collector.of(
+              factory,
+              (list, either) -> list.add(Unchecked.cast(either)),
+              (left, right) -> {
+                  left.addAll(right);
+                  return left;
+              },
+              Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    //endregion
+
+    //region Columns
+
+    /**
+     * Stores {@code a} at the end of my {@link A} column, i.e. at {@link #aCount()}.
+     */
+    abstract void storeA(@NotNull A a);
+
+    /**
+     * @return the {@link A} at the given position of my {@link A} column
+     */
+    abstract @NotNull A loadA(int position);
+
+    /**
+     * Records that the next element {@link Either#hasA()} or {@link Either#hasB()}.
+     *
+     * @implNote Must be called <i>after</i> the value has been stored in its column.
+     */
+    final void appendSide(boolean isB) {
+        var word = size >>> 6;
+        if ((size & 63) == 0) {
+            if (word == sides.length) {
+                sides = Arrays.copyOf(sides, sides.length * 2);
+                ranks = Arrays.copyOf(ranks, ranks.length * 2);
+            }
+            ranks[word] = bCount;
+        }
+
+        if (isB) {
+            sides[word] |= 1L << size;
+            bCount++;
+        }
+        size++;
+    }
+
+    /**
+     * @return the position of the element at {@code index} within its own column
+     */
+    final int positionOf(int index) {
+        var word     = index >>> 6;
+        var bsBefore = ranks[word] + Long.bitCount(sides[word] & ((1L << index) - 1));
+        return hasB(index) ? bsBefore : index - bsBefore;
+    }
+
+    /**
+     * @return the position of the {@link A} at {@code index} within my {@link A} column
+     * @throws NoSuchElementException if the element at {@code index} {@link Either#hasB()}
+     */
+    final int positionOfA(int index) {
+        Preconditions.checkElementIndex(index, size);
+        if (hasB(index)) {
+            throw new NoSuchElementException("Can't get 🅰 because index %s contains 🅱 (%s)!".formatted(index, bs[positionOf(index)]));
+        }
+        return positionOf(index);
+    }
+
+    static int grow(int length, int minCapacity) {
+        return Math.max(minCapacity, length + (length >> 1));
+    }
+
+    //endregion
+
+    //region Appending
+
+    /**
+     * Adds an {@link Either#ofA(Object)} to my end.
+     *
+     * @param a the new element's {@link A}
+     * @return {@code true}, as required by {@link Collection#add(Object)}
+     */
+    public boolean addA(@NotNull A a) {
+        storeA(Objects.requireNonNull(a, "a"));
+        appendSide(false);
+        return true;
+    }
+
+    /**
+     * Adds an {@link Either#ofB(Object)} to my end.
+     *
+     * @param b the new element's {@link B}
+     * @return {@code true}, as required by {@link Collection#add(Object)}
+     */
+    public boolean addB(@NotNull B b) {
+        Objects.requireNonNull(b, "b");
+        if (bCount == bs.length) {
+            bs = Arrays.copyOf(bs, grow(bs.length, bCount + 1));
+        }
+        bs[bCount] = b;
+        appendSide(true);
+        return true;
+    }
+
+    @Override
+    public boolean add(@NotNull Either<A, B> either) {
+        return either.hasA() ? addA(either.getA()) : addB(either.getB());
+    }
+
+    @Override
+    public boolean addAll(@NotNull Collection<? extends Either<A, B>> c) {
+        for (var either : c) {
+            add(either);
+        }
+        return !c.isEmpty();
+    }
+
+    //endregion
+
+    //region Reading
+
+    @Override
+    @Contract(pure = true)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return how many of my elements {@link Either#hasA()}
+     */
+    @Contract(pure = true)
+    public int aCount() {
+        return size - bCount;
+    }
+
+    /**
+     * @return how many of my elements {@link Either#hasB()}
+     */
+    @Contract(pure = true)
+    public int bCount() {
+        return bCount;
+    }
+
+    /**
+     * @return {@code true} if the element at {@code index} {@link Either#hasB()}
+     */
+    @Contract(pure = true)
+    public boolean hasB(int index) {
+        Preconditions.checkElementIndex(index, size);
+        return (sides[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return {@code true} if the element at {@code index} {@link Either#hasA()}
+     */
+    @Contract(pure = true)
+    public boolean hasA(int index) {
+        return !hasB(index);
+    }
+
+    /**
+     * @return a new {@link Either} with the element at {@code index}
+     */
+    @NotNull
+    @Override
+    @Contract(value = "_ -> new", pure = true)
+    public Either<A, B> get(int index) {
+        return hasB(index) ? Either.ofB(unsafeB(positionOf(index))) : Either.ofA(loadA(positionOf(index)));
+    }
+
+    /**
+     * @return the {@link A} at {@code index}
+     * @throws NoSuchElementException if the element at {@code index} {@link Either#hasB()}
+     * @see Either#getA()
+     */
+    @Contract(pure = true)
+    public @NotNull A getA(int index) {
+        return loadA(positionOfA(index));
+    }
+
+    /**
+     * @return the {@link B} at {@code index}
+     * @throws NoSuchElementException if the element at {@code index} {@link Either#hasA()}
+     * @see Either#getB()
+     */
+    @Contract(pure = true)
+    public @NotNull B getB(int index) {
+        if (hasA(index)) {
+            throw new NoSuchElementException("Can't get 🅱 because index %s contains 🅰 (%s)!".formatted(index, loadA(positionOf(index))));
+        }
+        return unsafeB(positionOf(index));
+    }
+
+    /**
+     * @return all of my {@link A}s, in order, without creating any {@link Either}s
+     */
+    @Contract(pure = true)
+    public @NotNull Stream<@NotNull A> streamA() {
+        return IntStream.range(0, aCount()).mapToObj(this::loadA);
+    }
+
+    /**
+     * @return all of my {@link B}s, in order, without creating any {@link Either}s
+     */
+    @Contract(pure = true)
+    public @NotNull Stream<@NotNull B> streamB() {
+        return IntStream.range(0, bCount).mapToObj(this::unsafeB);
+    }
+
+    private @NotNull B unsafeB(int position) {
+        return Unchecked.cast(bs[position]);
+    }
+
+    //endregion
+
+    //region Equality
+
+    /**
+     * @implSpec Follows the {@link List#equals(Object)} contract.
+     */
+    @Override
+    @Contract(value = "null -> false", pure = true)
+    public boolean equals(@Nullable Object obj) {
+        return obj == this || (obj instanceof List<?> other && Iterables.elementsEqual(this, other));
+    }
+
+    /**
+     * @implSpec Follows the {@link List#hashCode()} contract.
+     */
+    @Override
+    @Contract(pure = true)
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + (hasB(i) ? unsafeB(positionOf(i)).hashCode() : loadA(positionOf(i)).hashCode());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Iterables.toString(this);
+    }
+
+    //endregion
+
+    //region Implementations
+
+    /**
+     * An {@link EitherList} that can hold any {@link A}.
+     */
+    public static final class OfObjects<A, B> extends EitherList<A, B> {
+        private Object[] as = new Object[DEFAULT_CAPACITY];
+
+        private OfObjects() {
+        }
+
+        @Override
+        void storeA(@NotNull A a) {
+            var position = aCount();
+            if (position == as.length) {
+                as = Arrays.copyOf(as, grow(as.length, position + 1));
+            }
+            as[position] = a;
+        }
+
+        @Override
+        @NotNull A loadA(int position) {
+            return Unchecked.cast(as[position]);
+        }
+    }
+
+    /**
+     * An {@link EitherList} that stores its {@link A}s as a {@code long[]}.
+     */
+    public static final class OfLongs<B> extends EitherList<Long, B> {
+        private long[] as = new long[DEFAULT_CAPACITY];
+
+        private OfLongs() {
+        }
+
+        /**
+         * Same as {@link #addA(Object)}, but without boxing.
+         */
+        public boolean addA(long a) {
+            store(a);
+            appendSide(false);
+            return true;
+        }
+
+        /**
+         * Same as {@link #getA(int)}, but without boxing.
+         */
+        @Contract(pure = true)
+        public long getLong(int index) {
+            return as[positionOfA(index)];
+        }
+
+        /**
+         * Same as {@link #streamA()}, but without boxing.
+         */
+        @Contract(pure = true)
+        public @NotNull LongStream streamLongs() {
+            return Arrays.stream(as, 0, aCount());
+        }
+
+        @Override
+        void storeA(@NotNull Long a) {
+            store(a);
+        }
+
+        private void store(long a) {
+            var position = aCount();
+            if (position == as.length) {
+                as = Arrays.copyOf(as, grow(as.length, position + 1));
+            }
+            as[position] = a;
+        }
+
+        @Override
+        @NotNull Long loadA(int position) {
+            return as[position];
+        }
+    }
+
+    /**
+     * An {@link EitherList} that stores its {@link A}s as an {@code int[]}.
+     */
+    public static final class OfInts<B> extends EitherList<Integer, B> {
+        private int[] as = new int[DEFAULT_CAPACITY];
+
+        private OfInts() {
+        }
+
+        /**
+         * Same as {@link #addA(Object)}, but without boxing.
+         */
+        public boolean addA(int a) {
+            store(a);
+            appendSide(false);
+            return true;
+        }
+
+        /**
+         * Same as {@link #getA(int)}, but without boxing.
+         */
+        @Contract(pure = true)
+        public int getInt(int index) {
+            return as[positionOfA(index)];
+        }
+
+        /**
+         * Same as {@link #streamA()}, but without boxing.
+         */
+        @Contract(pure = true)
+        public @NotNull IntStream streamInts() {
+            return Arrays.stream(as, 0, aCount());
+        }
+
+        @Override
+        void storeA(@NotNull Integer a) {
+            store(a);
+        }
+
+        private void store(int a) {
+            var position = aCount();
+            if (position == as.length) {
+                as = Arrays.copyOf(as, grow(as.length, position + 1));
+            }
+            as[position] = a;
+        }
+
+        @Override
+        @NotNull Integer loadA(int position) {
+            return as[position];
+        }
+    }
+
+    /**
+     * An {@link EitherList} that stores its {@link A}s as a {@code double[]}.
+     */
+    public static final class OfDoubles<B> extends EitherList<Double, B> {
+        private double[] as = new double[DEFAULT_CAPACITY];
+
+        private OfDoubles() {
+        }
+
+        /**
+         * Same as {@link #addA(Object)}, but without boxing.
+         */
+        public boolean addA(double a) {
+            store(a);
+            appendSide(false);
+            return true;
+        }
+
+        /**
+         * Same as {@link #getA(int)}, but without boxing.
+         */
+        @Contract(pure = true)
+        public double getDouble(int index) {
+            return as[positionOfA(index)];
+        }
+
+        /**
+         * Same as {@link #streamA()}, but without boxing.
+         */
+        @Contract(pure = true)
+        public @NotNull DoubleStream streamDoubles() {
+            return Arrays.stream(as, 0, aCount());
+        }
+
+        @Override
+        void storeA(@NotNull Double a) {
+            store(a);
+        }
+
+        private void store(double a) {
+            var position = aCount();
+            if (position == as.length) {
+                as = Arrays.copyOf(as, grow(as.length, position + 1));
+            }
+            as[position] = a;
+        }
+
+        @Override
+        @NotNull Double loadA(int position) {
+            return as[position];
+        }
+    }
+
+    //endregion
+}
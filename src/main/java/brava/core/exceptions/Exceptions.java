@@ -6,10 +6,32 @@ import javax.annotation.Nonnull;
  * Utilities for working with {@link Throwable}s.
  */
 public final class Exceptions {
+    /**
+     * The system property that, when set to {@code false}, stops brava's own exceptions from capturing stack traces.
+     *
+     * @see #capturesStackTraces()
+     */
+    public static final  String  STACK_TRACES_PROPERTY = "brava.core.exceptions.stackTraces";
+    private static final boolean STACK_TRACES          = !"false".equalsIgnoreCase(System.getProperty(STACK_TRACES_PROPERTY));
+
     private Exceptions() {
         throw new UnsupportedOperationException("🚪🩸");
     }
 
+    /**
+     * Whether brava's own exceptions <i>(like {@link UnreachableException} or {@link Problem.BigProblemException})</i> capture stack traces.
+     * <p>
+     * Capturing a stack trace is usually the most expensive part of creating an exception, so if exceptions are an <i>expected</i> outcome
+     * <i>(e.g. {@link brava.core.Either#resultOf(brava.core.Unchecked.Supplier, Class)} in a parsing loop)</i>, you can turn it off by setting
+     * the {@value #STACK_TRACES_PROPERTY} system property to {@code false}.
+     *
+     * @return {@code false} if the {@value #STACK_TRACES_PROPERTY} system property was {@code false} when this class was loaded
+     * @apiNote This is read once, so that the JIT can treat it as a constant.
+     */
+    public static boolean capturesStackTraces() {
+        return STACK_TRACES;
+    }
+
     /**
      * If the {@code exception} is one of the given types, return it; otherwise, {@code throw} it.
      *
@@ -48,7 +70,7 @@ public final class Exceptions {
 
         for (Class<? extends E2> e : alsoCatching) {
             if (e.isInstance(exception)) {
-                return catching.cast(e);
+                return e.cast(exception);
             }
         }
 
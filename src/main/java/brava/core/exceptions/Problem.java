@@ -58,6 +58,14 @@ public record Problem(
             super(formatProblemList(problems));
         }
 
+        /**
+         * @see Exceptions#capturesStackTraces()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return Exceptions.capturesStackTraces() ? super.fillInStackTrace() : this;
+        }
+
         private static @NotNull String formatProblemSummary(@NotNull Collection<Problem> problems) {
             Preconditions.checkArgument(!problems.isEmpty(), "I can't report 0 problems!");
 
@@ -82,8 +90,9 @@ public record Problem(
             var maxDigits = (problems.size() + "").length();
             return Streams.mapWithIndex(
                     problems.stream(),
-                    (from, index) -> "  [%s]".formatted(
-                        Strings.padStart(index + "", maxDigits, ' ')
+                    (from, index) -> "  [%s] %s".formatted(
+                        Strings.padStart(index + "", maxDigits, ' '),
+                        from
                     )
                 )
                 .collect(Collectors.joining(
@@ -10,4 +10,12 @@ public final class UncheckedReflectionException extends RuntimeException {
     public UncheckedReflectionException(ReflectiveOperationException cause) {
         super(cause);
     }
+
+    /**
+     * @see Exceptions#capturesStackTraces()
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return Exceptions.capturesStackTraces() ? super.fillInStackTrace() : this;
+    }
 }
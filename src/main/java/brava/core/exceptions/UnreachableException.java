@@ -19,4 +19,12 @@ public final class UnreachableException extends RuntimeException {
     public UnreachableException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * @see Exceptions#capturesStackTraces()
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return Exceptions.capturesStackTraces() ? super.fillInStackTrace() : this;
+    }
 }
@@ -0,0 +1,76 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+class AsyncLazyTests {
+    /**
+     * An {@link java.util.concurrent.Executor} that doesn't do anything until we tell it to, so that we can inspect an {@link AsyncLazy} mid-computation.
+     */
+    private static final class ManualExecutor implements java.util.concurrent.Executor {
+        private final ArrayList<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            tasks.forEach(Runnable::run);
+            tasks.clear();
+        }
+    }
+
+    @Test
+    void givenNotStarted_whenGetNow_thenFallbackIsReturnedAndComputationStarts() {
+        var executor = new ManualExecutor();
+        var lazy     = AsyncLazy.of(() -> "yolo", executor);
+
+        Assertions.assertThat(lazy.state()).isEqualTo(Lazy.State.FRESH);
+        Assertions.assertThat(lazy.getNow("fallback")).isEqualTo("fallback");
+        Assertions.assertThat(lazy.isDone()).isFalse();
+        Assertions.assertThat(executor.tasks).hasSize(1);
+
+        executor.runAll();
+
+        Assertions.assertThat(lazy.isDone()).isTrue();
+        Assertions.assertThat(lazy.state()).isEqualTo(Lazy.State.DONE);
+        Assertions.assertThat(lazy.getNow("fallback")).isEqualTo("yolo");
+    }
+
+    @Test
+    void givenParallelCalls_whenFuture_thenFutureIsSharedAndSupplierInvokedExactlyOnce() {
+        var counter = new AtomicLong();
+        var lazy    = AsyncLazy.of(counter::incrementAndGet);
+
+        var tracker = new ConcurrencyTracker();
+        var futures = tracker.runInParallel(100, i -> lazy.future());
+
+        Assertions.assertThat(futures)
+            .as(tracker.toString())
+            .allSatisfy(it -> Assertions.assertThat(it).isSameAs(lazy.future()));
+        Assertions.assertThat(lazy.future().join())
+            .isEqualTo(1);
+        Assertions.assertThat(counter)
+            .hasValue(1);
+    }
+
+    @Test
+    void givenSupplierThrowingException_whenGetNow_thenExceptionIsNotWrapped() {
+        var executor  = new ManualExecutor();
+        var exception = new Exception();
+        var lazy = AsyncLazy.of(() -> {
+            throw exception;
+        }, executor);
+
+        lazy.future();
+        executor.runAll();
+
+        Assertions.assertThat(lazy.state()).isEqualTo(Lazy.State.FAILED);
+        Assertions.assertThatThrownBy(() -> lazy.getNow("fallback"))
+            .isSameAs(exception);
+    }
+}
@@ -0,0 +1,144 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+class CircuitBreakerTests {
+    private static final CircuitBreaker.Policy POLICY = CircuitBreaker.Policy.of(0.5, 4, Duration.ofMinutes(1), Duration.ofMillis(50));
+
+    private static void fail(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.resultOf(() -> {
+                throw new IllegalStateException("💥");
+            });
+        }
+    }
+
+    @Test
+    void givenFewerThanMinimumCalls_whenEveryCallFails_thenBreakerStaysClosed() {
+        var breaker = new CircuitBreaker(POLICY);
+
+        fail(breaker, 3);
+
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.CLOSED);
+        Assertions.assertThat(breaker.metrics().failureRate())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void givenFailureRateAboveThreshold_whenCalled_thenBreakerOpensAndRejectsWithoutInvoking() {
+        var breaker = new CircuitBreaker(POLICY);
+        fail(breaker, 4);
+
+        var calls  = new AtomicInteger();
+        var result = breaker.resultOf(calls::incrementAndGet);
+
+        Assertions.assertThat(result.tryGetB())
+            .containsInstanceOf(CircuitBreaker.OpenException.class);
+        Assertions.assertThat(calls)
+            .hasValue(0);
+        Assertions.assertThat(breaker.metrics())
+            .extracting(CircuitBreaker.Metrics::state, CircuitBreaker.Metrics::rejected, CircuitBreaker.Metrics::timesOpened)
+            .containsExactly(CircuitBreaker.State.OPEN, 1L, 1L);
+    }
+
+    @Test
+    void givenFailureRateBelowThreshold_whenCalled_thenBreakerStaysClosed() {
+        var breaker = new CircuitBreaker(POLICY);
+
+        for (int i = 0; i < 10; i++) {
+            breaker.resultOf(() -> "👍");
+        }
+        fail(breaker, 4);
+
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenOpenDurationHasPassed_whenProbeSucceeds_thenBreakerClosesWithCleanWindow() {
+        var breaker = new CircuitBreaker(POLICY);
+        fail(breaker, 4);
+
+        LockSupport.parkNanos(POLICY.openDuration().multipliedBy(2).toNanos());
+        var result = breaker.resultOf(() -> "probe");
+
+        Assertions.assertThat(result.tryGetA())
+            .contains("probe");
+        Assertions.assertThat(breaker.metrics())
+            .isEqualTo(new CircuitBreaker.Metrics(CircuitBreaker.State.CLOSED, 0, 0, 0, 1, 1, 1));
+    }
+
+    @Test
+    void givenOpenDurationHasPassed_whenProbeFails_thenBreakerReopens() {
+        var breaker = new CircuitBreaker(POLICY);
+        fail(breaker, 4);
+
+        LockSupport.parkNanos(POLICY.openDuration().multipliedBy(2).toNanos());
+        fail(breaker, 1);
+
+        Assertions.assertThat(breaker.metrics())
+            .extracting(CircuitBreaker.Metrics::state, CircuitBreaker.Metrics::timesOpened, CircuitBreaker.Metrics::timesHalfOpened)
+            .containsExactly(CircuitBreaker.State.OPEN, 2L, 1L);
+        Assertions.assertThat(breaker.resultOf(() -> "too soon").tryGetB())
+            .containsInstanceOf(CircuitBreaker.OpenException.class);
+    }
+
+    @Test
+    void givenHalfOpenBreaker_whenProbeIsInFlight_thenOtherCallsAreRejected() {
+        var breaker = new CircuitBreaker(POLICY);
+        fail(breaker, 4);
+        LockSupport.parkNanos(POLICY.openDuration().multipliedBy(2).toNanos());
+
+        var result = breaker.resultOf(() -> breaker.resultOf(() -> "sneaky"));
+
+        Assertions.assertThat(result.getA().tryGetB())
+            .containsInstanceOf(CircuitBreaker.OpenException.class);
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenManyCallersRacingTheProbe_whenProbeSucceeds_thenLaterCallsAreNotTreatedAsProbes() throws InterruptedException {
+        for (int round = 0; round < 50; round++) {
+            var breaker = new CircuitBreaker(POLICY.withOpenDuration(Duration.ZERO).withMinimumCalls(2));
+            fail(breaker, 2);
+
+            var start    = new CountDownLatch(1);
+            var executor = Executors.newFixedThreadPool(8);
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    Unchecked.run(start::await);
+                    for (int call = 0; call < 100; call++) {
+                        breaker.resultOf(() -> "👍");
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            var metrics = breaker.metrics();
+            Assertions.assertThat(metrics)
+                .extracting(CircuitBreaker.Metrics::state, CircuitBreaker.Metrics::timesClosed)
+                .containsExactly(CircuitBreaker.State.CLOSED, 1L);
+            Assertions.assertThat(metrics.successes() + metrics.rejected())
+                .as("Only the probe's own success should be cleared from the window: %s", metrics)
+                .isEqualTo(799);
+        }
+    }
+
+    @Test
+    void givenInvalidThreshold_whenConstructed_thenExceptionIsThrown() {
+        Assertions.assertThatThrownBy(() -> POLICY.withFailureRateThreshold(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class EitherFutureTests {
+    @Test
+    void givenSuccessfulSupplier_whenMapAndFlatMap_thenStepsAreComposed() {
+        var result = EitherFuture.resultOf(() -> 21)
+            .mapA(it -> it * 2)
+            .flatMapA(it -> EitherFuture.resultOf(() -> "🍎" + it))
+            .join();
+
+        Assertions.assertThat(result)
+            .isEqualTo(Either.ofA("🍎42"));
+    }
+
+    @Test
+    void givenFailedCompletionStage_whenFrom_thenExceptionIsB() {
+        var exception = new IOException();
+
+        var result = EitherFuture.from(CompletableFuture.failedFuture(exception)).join();
+
+        Assertions.assertThat(result)
+            .isEqualTo(Either.ofB(exception));
+    }
+
+    @Test
+    void givenOneFailure_whenAllOf_thenFailureIsReturnedWithoutWaitingForTheOthers() {
+        var never     = new CountDownLatch(1);
+        var exception = new IllegalStateException();
+        var stuck     = EitherFuture.resultOf(() -> {
+            never.await();
+            return 1;
+        });
+        var failed = EitherFuture.<Integer>resultOf(() -> {throw exception;});
+
+        Assertions.assertThat(EitherFuture.allOf(List.of(stuck, failed)).join())
+            .isEqualTo(Either.ofB(exception));
+
+        never.countDown();
+    }
+
+    @Test
+    void givenOnlySuccesses_whenAllOf_thenValuesAreInInputOrder() {
+        var slow = EitherFuture.resultOf(() -> {
+            Thread.sleep(20);
+            return 1;
+        });
+        var fast = EitherFuture.resultOf(() -> 2);
+
+        Assertions.assertThat(EitherFuture.allOf(List.of(slow, fast)).join())
+            .isEqualTo(Either.ofA(List.of(1, 2)));
+    }
+
+    @Test
+    void givenOnlyFailures_whenFirstSuccess_thenAllFailuresAreReturned() {
+        var first  = new IllegalStateException();
+        var second = new IOException();
+
+        var result = EitherFuture.firstSuccess(List.of(
+            EitherFuture.<Integer>resultOf(() -> {throw first;}),
+            EitherFuture.<Integer>resultOf(() -> {throw second;})
+        )).join();
+
+        Assertions.assertThat(result)
+            .isEqualTo(Either.ofB(List.of(first, second)));
+    }
+
+    @Test
+    void givenSlowFirstAttempt_whenHedge_thenLaterAttemptWins() {
+        var attempts = new AtomicInteger();
+        var never    = new CountDownLatch(1);
+
+        var result = EitherFuture.hedge(() -> {
+            var attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                never.await();
+            }
+            return attempt;
+        }, Duration.ofMillis(10), 2).join();
+
+        Assertions.assertThat(result)
+            .isEqualTo(Either.ofA(2));
+
+        never.countDown();
+    }
+
+    @Test
+    void givenFastFirstAttempt_whenHedge_thenNoOtherAttemptIsMade() throws InterruptedException {
+        var attempts = new AtomicInteger();
+
+        var result = EitherFuture.hedge(attempts::incrementAndGet, Duration.ofMillis(10), 3).join();
+        Thread.sleep(50);
+
+        Assertions.assertThat(result)
+            .isEqualTo(Either.ofA(1));
+        Assertions.assertThat(attempts)
+            .hasValue(1);
+    }
+
+    @Test
+    void givenPendingAndCompletedFutures_whenToString_thenOnlyPendingFutureLooksPending() {
+        var pending   = EitherFuture.from(new CompletableFuture<String>());
+        var completed = EitherFuture.of(Either.<String, Throwable>ofA("🦥"));
+
+        Assertions.assertThat(pending)
+            .hasToString("⏳");
+        Assertions.assertThat(completed)
+            .hasToString(Either.ofA("🦥").toString());
+    }
+}
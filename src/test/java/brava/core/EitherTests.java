@@ -1,6 +1,7 @@
 package brava.core;
 
 import brava.core.collections.Combinatorial;
+import brava.core.tuples.Tuple;
 import brava.either.EitherAssertions;
 import com.google.common.base.Equivalence;
 import com.google.common.base.Preconditions;
@@ -14,7 +15,17 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
 
 class EitherTests implements WithAssertions {
@@ -91,6 +102,33 @@ class EitherTests implements WithAssertions {
               .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void either_resultOf_givenCaughtType_catchesIt() {
+        var exc = new IllegalStateException();
+        var either = Either.resultOf(() -> {
+            throw exc;
+        }, IllegalStateException.class);
+        EitherAssertions.validate(either, exc, Which.B);
+    }
+
+    @Test
+    void either_resultOf_givenUncaughtType_rethrowsIt() {
+        var exc = new IllegalStateException();
+        assertThatThrownBy(() -> Either.resultOf(() -> {
+            throw exc;
+        }, IllegalArgumentException.class, UnsupportedOperationException.class))
+              .isSameAs(exc);
+    }
+
+    @Test
+    void either_resultOf_givenAdditionalCaughtTypes_catchesThem() {
+        var exc = new ArithmeticException();
+        Either<Object, RuntimeException> either = Either.resultOf(() -> {
+            throw exc;
+        }, IllegalArgumentException.class, UnsupportedOperationException.class, ArithmeticException.class);
+        EitherAssertions.validate(either, exc, Which.B);
+    }
+
     @Test
     void givenEither_whenHandle_thenCorrectFunctionIsInvoked() {
         var hasA = Either.ofA(1);
@@ -160,6 +198,27 @@ class EitherTests implements WithAssertions {
               .isEqualTo(uuid.hashCode());
     }
 
+    @Test
+    void givenEitherOfA_whenPatternMatched_thenIsOfA() {
+        Either<@NotNull String, @NotNull Integer> either = Either.ofA("🅰");
+
+        if (either instanceof Either.OfA<String, Integer> a) {
+            Assertions.assertThat(a.getValue())
+                  .isEqualTo("🅰");
+        } else {
+            Assertions.fail("Expected %s to be an %s", either, Either.OfA.class);
+        }
+    }
+
+    @Test
+    void givenEitherOfB_whenPatternMatched_thenIsOfB() {
+        Either<@NotNull String, @NotNull Integer> either = Either.ofNullable(null, 2);
+
+        Assertions.assertThat(either)
+              .isInstanceOf(Either.OfB.class)
+              .isNotInstanceOf(Either.OfA.class);
+    }
+
     @Test
     void givenEithersWithEqualValueInDifferentSlots_whenEquals_thenFalse() {
         var uuid = UUID.randomUUID();
@@ -348,4 +407,254 @@ class EitherTests implements WithAssertions {
         
         EitherAssertions.validate(mapped, value, hasWhich);
     }
+
+    //region Partitioning
+
+    @Test
+    void givenParallelStreamOfEithers_whenPartition_thenEachSideKeepsEncounterOrder() {
+        var results = Stream.iterate(0, i -> i + 1)
+              .limit(10_000)
+              .parallel()
+              .map(i -> i % 3 == 0 ? Either.<Integer, String>ofB(String.valueOf(i)) : Either.<Integer, String>ofA(i))
+              .collect(Either.partition());
+
+        assertThat(results.a())
+              .hasSize(6_666)
+              .isSorted();
+        assertThat(results.b())
+              .hasSize(3_334)
+              .startsWith("0", "3", "6");
+    }
+
+    @Test
+    void givenExpectedSizes_whenPartition_thenAllElementsAreCollected() {
+        var results = Stream.of(Either.<Integer, String>ofA(1), Either.<Integer, String>ofB("two"), Either.<Integer, String>ofA(3))
+              .collect(Either.partition(2, 1));
+
+        assertThat(results.a()).containsExactly(1, 3);
+        assertThat(results.b()).containsExactly("two");
+    }
+
+    @Test
+    void givenMaxFailures_whenPartitionFailFast_thenRemainingElementsAreNeverPulled() {
+        var pulled = new ArrayList<Integer>();
+        var stream = Stream.iterate(0, i -> i + 1)
+              .limit(100)
+              .peek(pulled::add)
+              .map(i -> i % 2 == 1 ? Either.<Integer, String>ofB(String.valueOf(i)) : Either.<Integer, String>ofA(i));
+
+        var results = Either.partitionFailFast(stream, 2);
+
+        assertThat(results.a()).containsExactly(0, 2);
+        assertThat(results.b()).containsExactly("1", "3");
+        assertThat(pulled).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void givenZeroMaxFailures_whenPartitionFailFast_thenIllegalArgumentException() {
+        assertThatThrownBy(() -> Either.partitionFailFast(Stream.<Either<Integer, String>>empty(), 0))
+              .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    //endregion
+
+    //region Sequencing
+
+    @Test
+    void givenOnlyAs_whenSequence_thenAllAsAreReturnedInOrder() {
+        var sequenced = Either.sequence(List.of(Either.<Integer, String>ofA(1), Either.<Integer, String>ofA(2), Either.<Integer, String>ofA(3)));
+
+        EitherAssertions.validate(sequenced, List.of(1, 2, 3), Which.A);
+    }
+
+    @Test
+    void givenFunctionReturningB_whenTraverse_thenLaterItemsAreNotEvaluated() {
+        var evaluated = new ArrayList<Integer>();
+
+        var traversed = Either.traverse(List.of(1, 2, 3, 4), it -> {
+            evaluated.add(it);
+            return it == 2 ? Either.<Integer, String>ofB("💥") : Either.<Integer, String>ofA(it);
+        });
+
+        EitherAssertions.validate(traversed, "💥", Which.B);
+        assertThat(evaluated).containsExactly(1, 2);
+    }
+
+    @Test
+    void givenOnlyAs_whenTraverseParallel_thenAllAsAreReturnedInOrder() throws InterruptedException {
+        var items = Stream.iterate(0, i -> i + 1).limit(20).toList();
+
+        var traversed = Either.traverseParallel(items, it -> {
+            // The later items finish first
+            Thread.sleep(20 - it);
+            return Either.<Integer, String>ofA(it * 10);
+        });
+
+        EitherAssertions.validate(traversed, items.stream().map(it -> it * 10).toList(), Which.A);
+    }
+
+    @Test
+    void givenFunctionReturningB_whenTraverseParallel_thenOutstandingWorkIsCancelled() throws InterruptedException {
+        var started     = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+
+        var traversed = Either.traverseParallel(List.of("slow", "fast"), it -> {
+            if (it.equals("fast")) {
+                started.await();
+                return Either.<String, String>ofB("💥");
+            }
+
+            started.countDown();
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Either.<String, String>ofA(it);
+        });
+
+        EitherAssertions.validate(traversed, "💥", Which.B);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS))
+              .as("the slow invocation was interrupted")
+              .isTrue();
+    }
+
+    //endregion
+
+    //region Batches
+
+    @Test
+    void givenManySuppliers_whenResultOfAll_thenResultsAreInInputOrder() {
+        var failure   = new IllegalStateException();
+        var suppliers = Stream.iterate(0, i -> i + 1)
+              .limit(1_000)
+              .<Unchecked.Supplier<Integer>>map(i -> () -> {
+                  if (i == 500) {
+                      throw failure;
+                  }
+                  return i;
+              })
+              .toList();
+
+        var results = Either.resultOfAll(suppliers, BatchOptions.defaults().withMaxConcurrency(8));
+
+        assertThat(results).hasSize(1_000);
+        assertThat(results.get(0)).isEqualTo(Either.ofA(0));
+        assertThat(results.get(500)).isEqualTo(Either.ofB(failure));
+        assertThat(results.get(999)).isEqualTo(Either.ofA(999));
+    }
+
+    @Test
+    void givenMaxConcurrency_whenResultOfAll_thenNoMoreThanThatManyRunAtOnce() {
+        var tracker   = new ConcurrencyTracker();
+        var suppliers = Stream.iterate(0, i -> i + 1)
+              .limit(100)
+              .<Unchecked.Supplier<Integer>>map(i -> () -> tracker.use(i, it -> {
+                  LockSupport.parkNanos(1_000_000);
+                  return it;
+              }))
+              .toList();
+
+        Either.resultOfAll(suppliers, BatchOptions.defaults().withMaxConcurrency(4));
+
+        assertThat(tracker.maxUsers())
+              .as(tracker.toString())
+              .isBetween(1L, 4L);
+    }
+
+    @Test
+    void givenCallerRunsExecutor_whenResultOfAllWithManySuppliers_thenStackDoesNotOverflow() {
+        var suppliers = Stream.iterate(0, i -> i + 1)
+              .limit(50_000)
+              .<Unchecked.Supplier<Integer>>map(i -> () -> i)
+              .toList();
+        var executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        try {
+            var direct     = Either.resultOfAll(suppliers, BatchOptions.defaults().withExecutor(Runnable::run));
+            var callerRuns = Either.resultOfAll(suppliers, BatchOptions.defaults().withExecutor(executor).withTimeout(Duration.ofSeconds(10)));
+
+            assertThat(direct).allMatch(Either::hasA);
+            assertThat(callerRuns).allMatch(Either::hasA);
+            assertThat(callerRuns.get(49_999)).isEqualTo(Either.ofA(49_999));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void givenRejectingExecutor_whenResultOfAllWithManySuppliers_thenEveryRejectionIsReported() {
+        var suppliers = Stream.iterate(0, i -> i + 1)
+              .limit(50_000)
+              .<Unchecked.Supplier<Integer>>map(i -> () -> i)
+              .toList();
+        var executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        var results = Either.resultOfAll(suppliers, BatchOptions.defaults().withExecutor(executor));
+
+        assertThat(results)
+              .hasSize(50_000)
+              .allMatch(it -> it.getB() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    void givenInterruptedThread_whenResultOfAll_thenEverythingIsCancelledAndFlagIsRestored() {
+        var never = new CountDownLatch(1);
+        var suppliers = Stream.iterate(0, i -> i + 1)
+              .limit(100)
+              .<Unchecked.Supplier<Integer>>map(i -> () -> {
+                  never.await();
+                  return i;
+              })
+              .toList();
+
+        Thread.currentThread().interrupt();
+        try {
+            var results = Either.resultOfAll(suppliers, BatchOptions.defaults().withMaxConcurrency(10));
+
+            assertThat(results).allMatch(it -> it.getB() instanceof CancellationException);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void givenTimeout_whenResultOfAll_thenUnfinishedWorkIsReportedAsTimeout() {
+        var never = new CountDownLatch(1);
+        var suppliers = List.<Unchecked.Supplier<String>>of(
+              () -> "⚡",
+              () -> {
+                  never.await();
+                  return "🐌";
+              }
+        );
+
+        var results = Either.resultOfAll(suppliers, BatchOptions.defaults().withTimeout(Duration.ofMillis(50)));
+
+        assertThat(results.get(0)).isEqualTo(Either.ofA("⚡"));
+        assertThat(results.get(1).getB()).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void givenSuppliers_whenResultOfAllAsCompleted_thenResultsArriveAsTheyComplete() {
+        var slowStarted = new CountDownLatch(1);
+        var suppliers = List.<Unchecked.Supplier<String>>of(
+              () -> {
+                  slowStarted.await();
+                  return "🐌";
+              },
+              () -> "⚡"
+        );
+
+        var completions = Either.resultOfAllAsCompleted(suppliers, BatchOptions.defaults());
+
+        assertThat(completions.next()).isEqualTo(Tuple.of(1, Either.ofA("⚡")));
+        slowStarted.countDown();
+        assertThat(completions.next()).isEqualTo(Tuple.of(0, Either.ofA("🐌")));
+        assertThat(completions.hasNext()).isFalse();
+    }
+
+    //endregion
 }
@@ -1,7 +1,16 @@
 package brava.core;
 
+import brava.core.exceptions.Exceptions;
+import brava.core.exceptions.NotImplementedException;
+import brava.core.exceptions.Problem;
+import brava.core.exceptions.UnreachableException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Optional;
+
 public class ExceptionsTests {
     public static class SuperNullException extends NullPointerException {
     }
@@ -10,4 +19,39 @@ public class ExceptionsTests {
     void catching2() {
         var runtime = new RuntimeException();
     }
+
+    @Test
+    void givenExceptionMatchingAlternative_whenThrowUnless_thenExceptionIsReturned() {
+        var exception = new SuperNullException();
+
+        Assertions.assertThat(Exceptions.<RuntimeException, RuntimeException>throwUnless(exception, IllegalStateException.class, NullPointerException.class))
+            .isSameAs(exception);
+    }
+
+    @Test
+    void givenDefaultSettings_whenLibraryExceptionIsCreated_thenStackTraceIsCaptured() {
+        Assumptions.assumeTrue(Exceptions.capturesStackTraces());
+
+        Assertions.assertThat(new UnreachableException().getStackTrace())
+            .isNotEmpty();
+    }
+
+    @Test
+    void givenLibraryExceptionWithoutCause_whenInitCause_thenCauseIsAttached() {
+        var cause = new IllegalStateException("🐛");
+        var exceptions = List.of(
+            new UnreachableException(),
+            new UnreachableException("yolo"),
+            new NotImplementedException(),
+            new NotImplementedException("yolo"),
+            new Problem.BigProblemException(List.of(new Problem(Problem.Severity.ERROR, Lazy.of("yolo"), Optional.empty())))
+        );
+
+        for (var exception : exceptions) {
+            Assertions.assertThat(exception.initCause(cause))
+                .isSameAs(exception);
+            Assertions.assertThat(exception.getCause())
+                .isSameAs(cause);
+        }
+    }
 }
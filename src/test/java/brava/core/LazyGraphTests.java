@@ -0,0 +1,88 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class LazyGraphTests {
+    @Test
+    void givenDependencies_whenWarmUp_thenDependenciesAreInitializedFirst() {
+        var order = new ConcurrentLinkedQueue<String>();
+        var graph = LazyGraph.builder()
+            .add("server", Lazy.of(() -> order.add("server")), "database", "config")
+            .add("database", Lazy.of(() -> order.add("database")), "config")
+            .add("config", Lazy.of(() -> order.add("config")))
+            .build();
+
+        var report = graph.warmUp();
+
+        Assertions.assertThat(order)
+            .containsExactly("config", "database", "server");
+        Assertions.assertThat(report.nodes())
+            .containsOnlyKeys("server", "database", "config")
+            .allSatisfy((name, outcome) -> Assertions.assertThat(outcome.hasA()).isTrue());
+    }
+
+    @Test
+    void givenIndependentNodes_whenWarmUp_thenTheyAreInitializedInParallel() {
+        // Neither node can finish until both have started, so this would deadlock if they were initialized serially
+        var bothStarted = new CountDownLatch(2);
+        Unchecked.Supplier<Boolean> awaitBoth = () -> {
+            bothStarted.countDown();
+            return bothStarted.await(10, TimeUnit.SECONDS);
+        };
+        var graph = LazyGraph.builder()
+            .add("a", Lazy.of(awaitBoth))
+            .add("b", Lazy.of(awaitBoth))
+            .build();
+
+        var report = graph.warmUp();
+
+        Assertions.assertThat(report.failures())
+            .isEmpty();
+        Assertions.assertThat(bothStarted.getCount())
+            .isZero();
+    }
+
+    @Test
+    void givenNodeThrowingException_whenWarmUp_thenFailureIsReported() {
+        var exception = new IllegalStateException("💥");
+        var graph = LazyGraph.builder()
+            .add("good", Lazy.of(1))
+            .add("bad", Lazy.of(() -> {throw exception;}))
+            .build();
+
+        var report = graph.warmUp();
+
+        Assertions.assertThat(report.failures())
+            .containsExactly(Map.entry("bad", exception));
+    }
+
+    @Test
+    void givenCycle_whenBuild_thenExceptionIsThrown() {
+        var builder = LazyGraph.builder()
+            .add("a", Lazy.of(1), "c")
+            .add("b", Lazy.of(2), "a")
+            .add("c", Lazy.of(3), "b")
+            .add("d", Lazy.of(4));
+
+        Assertions.assertThatThrownBy(builder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cycle")
+            .hasMessageEndingWith("[a, b, c]");
+    }
+
+    @Test
+    void givenMissingDependency_whenBuild_thenExceptionIsThrown() {
+        var builder = LazyGraph.builder()
+            .add("a", Lazy.of(1), "nope");
+
+        Assertions.assertThatThrownBy(builder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("nope");
+    }
+}
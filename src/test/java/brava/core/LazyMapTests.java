@@ -0,0 +1,64 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+class LazyMapTests {
+    @Test
+    void givenParallelCallsWithSameKey_whenGet_thenFunctionInvokedOncePerKey() {
+        var counter = new AtomicLong();
+        var map     = Lazy.memoize((Integer key) -> key + ":" + counter.incrementAndGet());
+
+        var tracker = new ConcurrencyTracker();
+        tracker.runInParallel(100, i -> map.get(i % 2));
+
+        Assertions.assertThat(counter)
+            .as(tracker.toString())
+            .hasValue(2);
+        Assertions.assertThat(map.stats().loadSuccessCount()).isEqualTo(2);
+        Assertions.assertThat(map.stats().missCount()).isEqualTo(2);
+        Assertions.assertThat(map.stats().hitCount()).isEqualTo(98);
+    }
+
+    @Test
+    void givenFunctionThrowingException_whenGet_thenExceptionIsCached() {
+        var counter   = new AtomicLong();
+        var exception = new IOException();
+        var map = LazyMap.of((String key) -> {
+            counter.incrementAndGet();
+            throw exception;
+        });
+
+        Assertions.assertThatThrownBy(() -> map.get("a")).isSameAs(exception);
+        Assertions.assertThatThrownBy(() -> map.get("a")).isSameAs(exception);
+        Assertions.assertThat(counter).hasValue(1);
+        Assertions.assertThat(map.state("a")).isEqualTo(Lazy.State.FAILED);
+        Assertions.assertThat(map.stats().loadExceptionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenMaximumSize_whenMoreKeysThanMaximum_thenEntriesAreEvicted() {
+        var map = LazyMap.of((Integer key) -> key * 2, 10);
+
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertThat(map.get(i)).isEqualTo(i * 2);
+        }
+
+        Assertions.assertThat(map.size()).isLessThanOrEqualTo(10);
+        Assertions.assertThat(map.stats().evictionCount()).isGreaterThanOrEqualTo(90);
+    }
+
+    @Test
+    void givenInvalidatedKey_whenGet_thenValueIsRecomputed() {
+        var counter = new AtomicLong();
+        var map     = LazyMap.of((String key) -> counter.incrementAndGet());
+
+        Assertions.assertThat(map.get("a")).isEqualTo(1);
+        map.invalidate("a");
+        Assertions.assertThat(map.state("a")).isEqualTo(Lazy.State.FRESH);
+        Assertions.assertThat(map.get("a")).isEqualTo(2);
+    }
+}
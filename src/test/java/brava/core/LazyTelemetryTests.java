@@ -0,0 +1,78 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+class LazyTelemetryTests {
+    @Test
+    void givenInstrumentedLazy_whenGet_thenComputationIsRecorded() {
+        var lazy = Lazy.instrumented("givenInstrumentedLazy_whenGet_thenComputationIsRecorded", () -> "🦥");
+
+        Assertions.assertThat(LazyTelemetry.stats("givenInstrumentedLazy_whenGet_thenComputationIsRecorded"))
+            .hasValueSatisfying(it -> Assertions.assertThat(it.computations()).isZero());
+
+        lazy.get();
+        lazy.get();
+
+        Assertions.assertThat(LazyTelemetry.stats("givenInstrumentedLazy_whenGet_thenComputationIsRecorded"))
+            .hasValueSatisfying(it -> {
+                Assertions.assertThat(it.computations()).isEqualTo(1);
+                Assertions.assertThat(it.failures()).isZero();
+                Assertions.assertThat(it.waiters()).isZero();
+            });
+    }
+
+    @Test
+    void givenInstrumentedLazyThrowingException_whenGet_thenFailureIsRecorded() {
+        var lazy = Lazy.instrumented("givenInstrumentedLazyThrowingException_whenGet_thenFailureIsRecorded", () -> {
+            throw new IOException();
+        });
+
+        Assertions.assertThatThrownBy(lazy::get)
+            .isInstanceOf(IOException.class);
+
+        Assertions.assertThat(LazyTelemetry.stats("givenInstrumentedLazyThrowingException_whenGet_thenFailureIsRecorded"))
+            .hasValueSatisfying(it -> {
+                Assertions.assertThat(it.computations()).isEqualTo(1);
+                Assertions.assertThat(it.failures()).isEqualTo(1);
+            });
+    }
+
+    @Test
+    void givenSlowInstrumentedLazy_whenAnotherThreadGets_thenWaitIsRecorded() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var lazy = Lazy.instrumented("givenSlowInstrumentedLazy_whenAnotherThreadGets_thenWaitIsRecorded", () -> {
+            started.countDown();
+            Thread.sleep(50);
+            return "🐌";
+        });
+
+        var computer = new Thread(lazy::get);
+        computer.start();
+        started.await();
+        lazy.get();
+        computer.join();
+
+        Assertions.assertThat(LazyTelemetry.stats("givenSlowInstrumentedLazy_whenAnotherThreadGets_thenWaitIsRecorded"))
+            .hasValueSatisfying(it -> {
+                Assertions.assertThat(it.computations()).isEqualTo(1);
+                Assertions.assertThat(it.waiters()).isEqualTo(1);
+                Assertions.assertThat(it.waitTime()).isPositive();
+                Assertions.assertThat(it.computeTime()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+            });
+    }
+
+    @Test
+    void givenUninstrumentedLazy_whenGet_thenNothingIsRecorded() {
+        var before = LazyTelemetry.stats().keySet();
+
+        Lazy.of(() -> "🙈").get();
+
+        Assertions.assertThat(LazyTelemetry.stats())
+            .containsOnlyKeys(before);
+    }
+}
@@ -2,13 +2,24 @@ package brava.core;
 
 import org.assertj.core.api.Assertions;
 import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
+import java.io.IOException;
 import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -54,6 +65,283 @@ class LazyTests {
             );
     }
 
+    @Test
+    void givenThousandsOfVirtualThreads_whenGet_thenSupplierInvokedExactlyOnce() throws InterruptedException {
+        Assumptions.assumeTrue(VirtualThreads.isAvailable(), "Virtual threads require Java 21+");
+        var factory = VirtualThreads.factory().orElseThrow();
+
+        var counter = new AtomicLong();
+        // A slow supplier that blocks, which is exactly when a `synchronized` block would pin the carrier threads.
+        var lazy = Lazy.of(() -> {
+            Thread.sleep(250);
+            return counter.incrementAndGet();
+        });
+
+        int threadCount = 10_000;
+        var results     = new ConcurrentLinkedQueue<Long>();
+        var threads     = new ArrayList<Thread>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            var thread = factory.newThread(() -> results.add(lazy.get()));
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertThat(counter)
+            .as("supplier invocations")
+            .hasValue(1);
+        Assertions.assertThat(results)
+            .hasSize(threadCount)
+            .containsOnly(1L);
+    }
+
+    //region Retries
+
+    @Test
+    void givenRetryPolicy_whenSupplierFailsThenSucceeds_thenValueIsReturned() {
+        var counter = new AtomicLong();
+        var lazy = Lazy.of(() -> {
+            if (counter.incrementAndGet() < 3) {
+                throw new IllegalStateException("attempt " + counter.get());
+            }
+            return counter.get();
+        }, RetryPolicy.of(5, Duration.ZERO));
+
+        Assertions.assertThatThrownBy(lazy::get).hasMessage("attempt 1");
+        Assertions.assertThat(lazy.willRetry()).isTrue();
+        Assertions.assertThatThrownBy(lazy::get).hasMessage("attempt 2");
+        Assertions.assertThat(lazy.get()).isEqualTo(3);
+        Assertions.assertThat(lazy.get()).isEqualTo(3);
+        Assertions.assertThat(lazy.state()).isEqualTo(Lazy.State.DONE);
+        Assertions.assertThat(lazy.failures()).isEqualTo(2);
+    }
+
+    @Test
+    void givenRetryPolicy_whenMaxAttemptsExhausted_thenLastFailureIsCachedForever() {
+        var counter = new AtomicLong();
+        var lazy = Lazy.of(() -> {
+            throw new IllegalStateException("attempt " + counter.incrementAndGet());
+        }, RetryPolicy.of(3, Duration.ZERO));
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertThatThrownBy(lazy::get).isInstanceOf(IllegalStateException.class);
+        }
+
+        Assertions.assertThat(counter).hasValue(3);
+        Assertions.assertThatThrownBy(lazy::get).hasMessage("attempt 3");
+        Assertions.assertThat(lazy.willRetry()).isFalse();
+        Assertions.assertThat(lazy.failures()).isEqualTo(3);
+    }
+
+    @Test
+    void givenRetryPolicy_whenBackoffHasNotElapsed_thenSupplierIsNotInvokedAgain() {
+        var counter   = new AtomicLong();
+        var exception = new IllegalStateException();
+        var lazy = Lazy.of(() -> {
+            counter.incrementAndGet();
+            throw exception;
+        }, RetryPolicy.of(3, Duration.ofHours(1)));
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertThatThrownBy(lazy::get).isSameAs(exception);
+        }
+
+        Assertions.assertThat(counter).hasValue(1);
+        Assertions.assertThat(lazy.willRetry()).isTrue();
+    }
+
+    //endregion
+
+    //region Combinators
+
+    @Test
+    void givenLazy_whenMapped_thenNothingIsComputedUntilGet() {
+        var counter = new AtomicLong();
+        var lazy = Lazy.of(() -> {
+            counter.incrementAndGet();
+            return 2;
+        });
+
+        var mapped = lazy.map(it -> it * 10).map(it -> it + 1);
+        Assertions.assertThat(counter)
+            .hasValue(0);
+
+        Assertions.assertThat(mapped.get())
+            .isEqualTo(21);
+        Assertions.assertThat(mapped.get())
+            .isEqualTo(21);
+        Assertions.assertThat(counter)
+            .hasValue(1);
+    }
+
+    @Test
+    void givenFailedLazy_whenMapped_thenMapperIsNotInvoked() {
+        var exception = new IllegalStateException();
+        var mapped = Lazy.<Integer>failure(exception)
+            .map(it -> {
+                throw new AssertionError("The mapper shouldn't have been invoked!");
+            });
+
+        Assertions.assertThatThrownBy(mapped::get)
+            .isSameAs(exception);
+    }
+
+    @Test
+    void givenLazy_whenFlatMapped_thenInnerLazyIsUnwrapped() {
+        var flatMapped = Lazy.of(() -> 2)
+            .flatMap(it -> Lazy.of(() -> "🦥".repeat(it)));
+
+        Assertions.assertThat(flatMapped.get())
+            .isEqualTo("🦥🦥");
+    }
+
+    @Test
+    void givenLazies_whenZipped_thenCombinerReceivesEveryValue() {
+        var zipped2 = Lazy.zip(Lazy.of("a"), Lazy.of(() -> "b"), String::concat);
+        var zipped6 = Lazy.zip(
+            Lazy.of(1),
+            Lazy.of(2),
+            Lazy.of(3),
+            Lazy.of(4),
+            Lazy.of(5),
+            Lazy.of(() -> 6),
+            (a, b, c, d, e, f) -> a + b + c + d + e + f
+        );
+
+        Assertions.assertThat(zipped2.get())
+            .isEqualTo("ab");
+        Assertions.assertThat(zipped6.get())
+            .isEqualTo(21);
+    }
+
+    @Test
+    void givenChainOfCombinators_whenLastIsGot_thenIntermediateLaziesAreNotComputed() {
+        var invocations = new AtomicInteger();
+        var root        = Lazy.of(() -> 1);
+        var first       = root.map(it -> it + invocations.incrementAndGet());
+        var second      = first.flatMap(it -> Lazy.of(() -> it * 10));
+        var third       = second.map(it -> it + invocations.incrementAndGet());
+
+        Assertions.assertThat(third.get())
+            .isEqualTo(22);
+        Assertions.assertThat(invocations)
+            .hasValue(2);
+        Assertions.assertThat(List.of(root.state(), first.state(), second.state(), third.state()))
+            .containsExactly(Lazy.State.DONE, Lazy.State.FRESH, Lazy.State.FRESH, Lazy.State.DONE);
+    }
+
+    @Test
+    void givenComputedIntermediateLazy_whenMapped_thenItsValueIsReused() {
+        var invocations = new AtomicInteger();
+        var first       = Lazy.of(() -> 1).map(it -> it + invocations.incrementAndGet());
+
+        Assertions.assertThat(first.get())
+            .isEqualTo(2);
+        Assertions.assertThat(first.map(it -> it * 10).get())
+            .isEqualTo(20);
+        Assertions.assertThat(invocations)
+            .hasValue(1);
+    }
+
+    @Test
+    void givenCombinerThatThrowsCheckedException_whenZippedLazyIsGot_thenExceptionIsUnmodified() {
+        var exception = new IOException("💥");
+        var zipped = Lazy.zip(Lazy.of("a"), Lazy.of("b"), (a, b) -> {
+            throw exception;
+        });
+
+        Assertions.assertThatThrownBy(zipped::get)
+            .isSameAs(exception);
+    }
+
+    @Test
+    void givenMappedLazy_whenGot_thenUpstreamIsDereferenced() {
+        var upstream = new WeakReference<>(Lazy.of(() -> "🦥"));
+        var mapped   = Objects.requireNonNull(upstream.get()).map(String::length);
+
+        Assertions.assertThat(mapped.get())
+            .isEqualTo(2);
+
+        System.gc();
+        Assertions.assertThat(upstream.refersTo(null))
+            .as("After the mapped Lazy has been computed, it should no longer refer to its upstream Lazy")
+            .isTrue();
+    }
+
+    //endregion
+
+    //region Timeouts
+
+    @Test
+    void givenSlowSupplier_whenGetWithTimeout_thenWaiterGivesUpWithoutDisturbingComputation() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var lazy = Lazy.of(() -> {
+            started.countDown();
+            release.await();
+            return "done";
+        });
+
+        var computer = new Thread(lazy::get);
+        computer.start();
+        started.await();
+
+        Assertions.assertThatThrownBy(() -> lazy.get(Duration.ofMillis(10)))
+            .isInstanceOf(TimeoutException.class);
+        Assertions.assertThat(lazy.state())
+            .isEqualTo(Lazy.State.FRESH);
+
+        release.countDown();
+        computer.join();
+        Assertions.assertThat(lazy.get(Duration.ZERO))
+            .isEqualTo("done");
+    }
+
+    @Test
+    void givenSlowSupplier_whenWaiterIsInterrupted_thenGetInterruptiblyThrows() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var lazy = Lazy.of(() -> {
+            started.countDown();
+            release.await();
+            return "done";
+        });
+
+        var computer = new Thread(lazy::get);
+        computer.start();
+        started.await();
+
+        var interrupted = new AtomicBoolean();
+        var waiter = new Thread(() -> {
+            try {
+                lazy.getInterruptibly();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        waiter.start();
+        while (lazy.waiters() == 0) {
+            Thread.onSpinWait();
+        }
+        waiter.interrupt();
+        waiter.join();
+
+        Assertions.assertThat(interrupted)
+            .isTrue();
+        Assertions.assertThat(lazy.waiters())
+            .isZero();
+
+        release.countDown();
+        computer.join();
+        Assertions.assertThat(lazy.getInterruptibly())
+            .isEqualTo("done");
+    }
+
+    //endregion
+
     @Test
     void givenSupplierReturningNull_whenGet_thenExceptionIsThrown() {
         @SuppressWarnings("DataFlowIssue")
@@ -0,0 +1,74 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class PooledLazyTests {
+    @Test
+    void givenParallelBorrowers_whenBorrow_thenNoMoreThanMaxSizeInstancesAreCreated() {
+        var created = new AtomicInteger();
+        var pool = PooledLazy.of(() -> {
+            created.incrementAndGet();
+            return new StringBuilder();
+        }, 3);
+
+        var tracker = new ConcurrencyTracker();
+        var results = tracker.runInParallel(100, i -> pool.borrow(builder -> {
+            // If two threads ever shared a builder, their contents would get mixed up
+            builder.setLength(0);
+            builder.append(i);
+            Thread.sleep(1);
+            return builder.toString();
+        }));
+
+        Assertions.assertThat(results)
+            .as(tracker.toString())
+            .containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(String::valueOf).toList());
+        Assertions.assertThat(created)
+            .hasValueBetween(1, 3);
+        Assertions.assertThat(pool.occupancy().borrowed())
+            .isZero();
+    }
+
+    @Test
+    void givenNothingBorrowed_whenOccupancy_thenNothingIsCreated() {
+        var pool = PooledLazy.of(Object::new, 2);
+
+        Assertions.assertThat(pool.occupancy())
+            .isEqualTo(new PooledLazy.Occupancy(2, 0, 0, 0));
+    }
+
+    @Test
+    void givenLease_whenClosed_thenInstanceIsReused() throws InterruptedException {
+        var pool = PooledLazy.of(Object::new, 2);
+
+        Object first;
+        try (var lease = pool.lease()) {
+            first = lease.get();
+            Assertions.assertThat(pool.occupancy().borrowed())
+                .isEqualTo(1);
+        }
+
+        try (var lease = pool.lease()) {
+            Assertions.assertThat(lease.get())
+                .isSameAs(first);
+        }
+
+        Assertions.assertThat(pool.occupancy())
+            .isEqualTo(new PooledLazy.Occupancy(2, 1, 0, 0));
+    }
+
+    @Test
+    void givenActionThrowingException_whenBorrow_thenInstanceIsDiscarded() {
+        var pool      = PooledLazy.of(Object::new, 2);
+        var exception = new Exception();
+
+        Assertions.assertThatThrownBy(() -> pool.borrow(it -> {throw exception;}))
+            .isSameAs(exception);
+        Assertions.assertThat(pool.occupancy())
+            .isEqualTo(new PooledLazy.Occupancy(2, 0, 0, 0));
+    }
+}
@@ -0,0 +1,73 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+class PrimitiveLazyTests {
+    @Test
+    void givenLazyInt_whenGet_thenValueIsComputedOnce() {
+        var counter = new AtomicLong();
+        var lazy = LazyInt.of(() -> {
+            counter.incrementAndGet();
+            return 42;
+        });
+
+        Assertions.assertThat(lazy.state())
+            .isEqualTo(Lazy.State.FRESH);
+        Assertions.assertThat(lazy.getAsInt())
+            .isEqualTo(42);
+        Assertions.assertThat(lazy.getAsInt())
+            .isEqualTo(42);
+        Assertions.assertThat(counter)
+            .hasValue(1);
+        Assertions.assertThat(lazy.state())
+            .isEqualTo(Lazy.State.DONE);
+    }
+
+    @Test
+    void givenParallelCalls_whenGet_thenSupplierIsInvokedOnce() {
+        var counter = new AtomicLong();
+        var lazy    = LazyLong.of(counter::incrementAndGet);
+
+        var tracker = new ConcurrencyTracker();
+        var results = tracker.runInParallel(100, i -> lazy.getAsLong());
+
+        Assertions.assertThat(results)
+            .as(tracker.toString())
+            .containsOnly(1L);
+        Assertions.assertThat(counter)
+            .hasValue(1);
+    }
+
+    @Test
+    void givenSupplierThrowingException_whenGet_thenSameExceptionIsAlwaysThrown() {
+        var counter   = new AtomicLong();
+        var exception = new IOException();
+        var lazy = LazyBoolean.of(() -> {
+            counter.incrementAndGet();
+            throw exception;
+        });
+
+        Assertions.assertThatThrownBy(lazy::getAsBoolean)
+            .isSameAs(exception);
+        Assertions.assertThatThrownBy(lazy::getAsBooleanChecked)
+            .isSameAs(exception);
+        Assertions.assertThat(counter)
+            .hasValue(1);
+        Assertions.assertThat(lazy.state())
+            .isEqualTo(Lazy.State.FAILED);
+    }
+
+    @Test
+    void givenPreInitializedValue_whenGet_thenValueIsReturned() {
+        var lazy = LazyDouble.of(1.5);
+
+        Assertions.assertThat(lazy.state())
+            .isEqualTo(Lazy.State.DONE);
+        Assertions.assertThat(lazy.getAsDouble())
+            .isEqualTo(1.5);
+    }
+}
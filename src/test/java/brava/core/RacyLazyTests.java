@@ -0,0 +1,46 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class RacyLazyTests {
+    @Test
+    void givenSupplierThrowingException_whenGet_thenSameExceptionIsAlwaysThrown() {
+        var counter   = new AtomicLong();
+        var exception = new Exception();
+        var lazy = Lazy.racy(() -> {
+            counter.incrementAndGet();
+            throw exception;
+        });
+
+        Assertions.assertThatThrownBy(lazy::get)
+            .isSameAs(exception);
+        Assertions.assertThatThrownBy(lazy::get)
+            .isSameAs(exception);
+        Assertions.assertThat(counter)
+            .hasValue(1);
+    }
+
+    @Test
+    void givenParallelCalls_whenGet_thenOnlyOneResultIsPublished() {
+        // Each invocation of the supplier produces a distinct object, so we can tell whether anybody saw a "losing" result.
+        var lazy = Lazy.racy(Object::new);
+
+        var tracker = new ConcurrencyTracker();
+        var results = tracker.runInParallel(100, i -> lazy.get());
+
+        Assertions.assertThat(results)
+            .as(tracker.toString())
+            .allSatisfy(it -> Assertions.assertThat(it).isSameAs(lazy.get()));
+    }
+
+    @Test
+    void givenSupplierReturningNull_whenGet_thenExceptionIsThrown() {
+        @SuppressWarnings("DataFlowIssue")
+        var lazy = Lazy.racy(() -> null);
+        Assertions.assertThatCode(lazy::get)
+            .isInstanceOf(NullPointerException.class);
+    }
+}
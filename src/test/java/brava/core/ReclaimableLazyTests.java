@@ -0,0 +1,75 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class ReclaimableLazyTests {
+    @Test
+    void givenWeakLazy_whenValueIsReclaimed_thenValueIsRecomputed() {
+        var counter = new AtomicLong();
+        var lazy = Lazy.weak(() -> {
+            counter.incrementAndGet();
+            return new byte[1024];
+        });
+
+        Assertions.assertThat(lazy.get())
+            .hasSize(1024);
+
+        // We can't force a garbage collection, but in practice a few requests are plenty to clear a weak reference
+        for (int i = 0; i < 10 && lazy.state() == Lazy.State.DONE; i++) {
+            System.gc();
+        }
+        Assertions.assertThat(lazy.state())
+            .isEqualTo(Lazy.State.FRESH);
+
+        Assertions.assertThat(lazy.get())
+            .hasSize(1024);
+        Assertions.assertThat(counter)
+            .hasValue(2);
+        Assertions.assertThat(lazy.generations())
+            .isEqualTo(2);
+        Assertions.assertThat(lazy.reclaimed())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void givenParallelCalls_whenGet_thenSupplierIsInvokedOnce() {
+        var counter = new AtomicLong();
+        var lazy = Lazy.soft(() -> {
+            counter.incrementAndGet();
+            return new Object();
+        });
+
+        var tracker = new ConcurrencyTracker();
+        var results = tracker.runInParallel(100, i -> lazy.get());
+
+        Assertions.assertThat(results)
+            .as(tracker.toString())
+            .allSatisfy(it -> Assertions.assertThat(it).isSameAs(lazy.get()));
+        Assertions.assertThat(counter)
+            .hasValue(1);
+        Assertions.assertThat(lazy.reclaimed())
+            .isZero();
+    }
+
+    @Test
+    void givenSupplierThrowingException_whenGet_thenSameExceptionIsAlwaysThrown() {
+        var counter   = new AtomicLong();
+        var exception = new Exception();
+        var lazy = Lazy.soft(() -> {
+            counter.incrementAndGet();
+            throw exception;
+        });
+
+        Assertions.assertThatThrownBy(lazy::get)
+            .isSameAs(exception);
+        Assertions.assertThatThrownBy(lazy::get)
+            .isSameAs(exception);
+        Assertions.assertThat(counter)
+            .hasValue(1);
+        Assertions.assertThat(lazy.state())
+            .isEqualTo(Lazy.State.FAILED);
+    }
+}
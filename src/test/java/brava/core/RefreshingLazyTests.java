@@ -0,0 +1,135 @@
+package brava.core;
+
+import com.google.common.base.Ticker;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RefreshingLazyTests {
+    private static final Duration TTL = Duration.ofMinutes(1);
+    /**
+     * Runs refreshes on the calling thread, <i>after</i> the caller has already read the stale value.
+     */
+    private static final Executor DIRECT = Runnable::run;
+
+    private static final class FakeTicker extends Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+
+    @Test
+    void givenExpiredValue_whenGet_thenStaleValueIsReturnedWhileRefreshing() {
+        var ticker  = new FakeTicker();
+        var counter = new AtomicLong();
+        var lazy    = RefreshingLazy.of(counter::incrementAndGet, TTL, RefreshingLazy.OnFailure.keepStale(), DIRECT, ticker);
+
+        Assertions.assertThat(lazy.state()).isEqualTo(Lazy.State.FRESH);
+        Assertions.assertThat(lazy.get()).isEqualTo(1);
+        Assertions.assertThat(lazy.get()).isEqualTo(1);
+
+        ticker.advance(TTL);
+        Assertions.assertThat(lazy.get())
+            .as("The stale value should be returned while the refresh happens")
+            .isEqualTo(1);
+        Assertions.assertThat(lazy.get())
+            .as("The refreshed value")
+            .isEqualTo(2);
+        Assertions.assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void givenEffectivelyInfiniteTimeToLive_whenGet_thenValueNeverExpires() {
+        var ticker  = new FakeTicker();
+        var counter = new AtomicLong();
+        var lazy    = RefreshingLazy.of(counter::incrementAndGet, Duration.ofSeconds(Long.MAX_VALUE), RefreshingLazy.OnFailure.keepStale(), DIRECT, ticker);
+
+        Assertions.assertThat(lazy.get()).isEqualTo(1);
+        ticker.advance(Duration.ofDays(365 * 100));
+        Assertions.assertThat(lazy.get()).isEqualTo(1);
+        Assertions.assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void givenKeepStale_whenRefreshFails_thenStaleValueIsReturned() {
+        var ticker  = new FakeTicker();
+        var failing = new AtomicBoolean();
+        var lazy = RefreshingLazy.of(() -> {
+            if (failing.get()) {
+                throw new IllegalStateException("💥");
+            }
+            return "yolo";
+        }, TTL, RefreshingLazy.OnFailure.keepStale(), DIRECT, ticker);
+
+        lazy.get();
+        failing.set(true);
+        ticker.advance(TTL);
+        lazy.get();
+
+        Assertions.assertThat(lazy.get()).isEqualTo("yolo");
+        Assertions.assertThat(lazy.state()).isEqualTo(Lazy.State.DONE);
+        Assertions.assertThat(lazy.consecutiveFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void givenSurface_whenRefreshFails_thenFailureIsThrownUntilNextSuccessfulRefresh() {
+        var ticker    = new FakeTicker();
+        var failing   = new AtomicBoolean();
+        var exception = new IllegalStateException("💥");
+        var lazy = RefreshingLazy.of(() -> {
+            if (failing.get()) {
+                throw exception;
+            }
+            return "yolo";
+        }, TTL, RefreshingLazy.OnFailure.surface(), DIRECT, ticker);
+
+        lazy.get();
+        failing.set(true);
+        ticker.advance(TTL);
+        lazy.get();
+
+        Assertions.assertThat(lazy.state()).isEqualTo(Lazy.State.FAILED);
+        Assertions.assertThatThrownBy(lazy::get).isSameAs(exception);
+
+        failing.set(false);
+        ticker.advance(TTL);
+        Assertions.assertThatThrownBy(lazy::get).isSameAs(exception);
+        Assertions.assertThat(lazy.get()).isEqualTo("yolo");
+    }
+
+    @Test
+    void givenRetryWithBackoff_whenRefreshFails_thenRetriedBeforeTimeToLive() {
+        var ticker  = new FakeTicker();
+        var counter = new AtomicLong();
+        var backoff = Duration.ofSeconds(1);
+        var lazy = RefreshingLazy.of(() -> {
+            if (counter.incrementAndGet() == 2) {
+                throw new IllegalStateException("💥");
+            }
+            return counter.get();
+        }, TTL, RefreshingLazy.OnFailure.retryWithBackoff(backoff, TTL), DIRECT, ticker);
+
+        lazy.get();
+        ticker.advance(TTL);
+        Assertions.assertThat(lazy.get())
+            .as("The refresh fails, so the stale value is kept")
+            .isEqualTo(1);
+
+        ticker.advance(backoff);
+        lazy.get();
+        Assertions.assertThat(lazy.get())
+            .as("The retry happens after the backoff, rather than a whole TTL")
+            .isEqualTo(3);
+    }
+}
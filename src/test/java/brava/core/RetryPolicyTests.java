@@ -0,0 +1,97 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RetryPolicyTests {
+    @ParameterizedTest
+    @CsvSource({
+        "1, 100",
+        "2, 200",
+        "3, 400",
+        "4, 500",
+        "100, 500",
+    })
+    void givenNoJitter_whenBackoff_thenBackoffIsExponentialAndCapped(int failures, long expectedMillis) {
+        var policy = RetryPolicy.of(10, Duration.ofMillis(100))
+            .withMaxBackoff(Duration.ofMillis(500));
+
+        Assertions.assertThat(policy.backoff(failures))
+            .isEqualTo(Duration.ofMillis(expectedMillis));
+    }
+
+    @Test
+    void givenJitter_whenBackoff_thenBackoffIsWithinJitterRange() {
+        var policy = RetryPolicy.of(10, Duration.ofMillis(100))
+            .withJitter(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertThat(policy.backoff(1))
+                .isBetween(Duration.ofMillis(50), Duration.ofMillis(150));
+        }
+    }
+
+    @Test
+    void givenInvalidJitter_whenConstructed_thenExceptionIsThrown() {
+        Assertions.assertThatThrownBy(() -> RetryPolicy.of(1, Duration.ZERO).withJitter(2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenSupplierThatEventuallySucceeds_whenResultOf_thenSuccessIsReturned() {
+        var policy = RetryPolicy.of(5, Duration.ofMillis(1));
+        var calls  = new AtomicInteger();
+
+        var result = policy.resultOf(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IllegalStateException("not yet");
+            }
+            return "done";
+        });
+
+        Assertions.assertThat(result.tryGetA())
+            .contains("done");
+        Assertions.assertThat(calls)
+            .hasValue(3);
+    }
+
+    @Test
+    void givenSupplierThatAlwaysFails_whenResultOf_thenLastFailureIsReturnedAfterMaxAttempts() {
+        var policy = RetryPolicy.of(3, Duration.ZERO);
+        var calls  = new AtomicInteger();
+
+        var result = policy.resultOf(() -> {
+            throw new IllegalStateException("attempt " + calls.incrementAndGet());
+        });
+
+        Assertions.assertThat(result.tryGetB())
+            .get()
+            .extracting(Throwable::getMessage)
+            .isEqualTo("attempt 3");
+    }
+
+    @Test
+    void givenInterruptedThread_whenRetry_thenLatestFailureIsReturnedWithoutWaiting() {
+        var policy = RetryPolicy.of(10, Duration.ofDays(1));
+        var calls  = new AtomicInteger();
+
+        Thread.currentThread().interrupt();
+        try {
+            Either<Object, Throwable> result = policy.retry(() -> Either.ofB(new IllegalStateException("attempt " + calls.incrementAndGet())));
+
+            Assertions.assertThat(result.hasB())
+                .isTrue();
+            Assertions.assertThat(calls)
+                .hasValue(1);
+            Assertions.assertThat(Thread.currentThread().isInterrupted())
+                .isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
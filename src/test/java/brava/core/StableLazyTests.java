@@ -0,0 +1,68 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+class StableLazyTests {
+    private static final StableLazy<String> CONSTANT = Lazy.stable(() -> "yolo");
+
+    @Test
+    void givenStaticFinalStableLazy_whenGet_thenValueIsReturned() {
+        Assertions.assertThat(CONSTANT.get())
+            .isEqualTo("yolo");
+    }
+
+    @Test
+    void givenParallelCalls_whenGet_thenSupplierInvokedExactlyOnce() {
+        var counter = new AtomicLong();
+        var lazy    = Lazy.stable(counter::incrementAndGet);
+
+        var tracker = new ConcurrencyTracker();
+        tracker.runInParallel(100, i ->
+            Assertions.assertThat(lazy.get())
+                .isEqualTo(1)
+        );
+
+        Assertions.assertThat(counter)
+            .as(tracker.toString())
+            .hasValue(1);
+    }
+
+    @Test
+    void givenSupplierThrowingException_whenGet_thenSameExceptionIsAlwaysThrown() {
+        var exception = new Exception();
+        var lazy = Lazy.stable(() -> {
+            throw exception;
+        });
+
+        Assertions.assertThatThrownBy(lazy::get)
+            .isSameAs(exception);
+        Assertions.assertThatThrownBy(lazy::get)
+            .isSameAs(exception);
+    }
+
+    @Test
+    void givenLazyCapturingReference_whenLazyGot_thenReferenceIsDereferenced() {
+        var captured = new Object();
+        var weakRef  = new WeakReference<>(captured);
+        var lazy     = Lazy.stable(captured::toString);
+        //noinspection UnusedAssignment
+        captured = null;
+
+        System.gc();
+        Assertions.assertThat(weakRef.refersTo(null))
+            .as("Because we haven't called `get()` yet, the references captured by the supplier should NOT have been garbage collected")
+            .isFalse();
+
+        Assertions.assertThat(lazy.get())
+            .isNotNull();
+
+        System.gc();
+        Assertions.assertThat(weakRef.refersTo(null))
+            .as("After calling `get()`, the references captured by the supplier SHOULD have been garbage collected")
+            .isTrue();
+    }
+}
@@ -1,10 +1,19 @@
 package brava.core;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 class UncheckedTests {
@@ -40,4 +49,173 @@ class UncheckedTests {
         Assertions.assertThatCode(() -> function.apply("yolo"))
             .isSameAs(exception);
     }
+
+    //region Primitive functions
+
+    private static long sizeOf(long value) throws IOException {
+        if (value < 0) {
+            throw new IOException("Negative size: " + value);
+        }
+        return value * 10;
+    }
+
+    @ParameterizedTest
+    @MethodSource("exceptions")
+    void givenUncheckedLongUnaryOperator_whenApplyThrows_exceptionIsUnmodified(Throwable exception) {
+        var operator = Unchecked.longUnaryOperator(it -> {
+            throw exception;
+        });
+
+        Assertions.assertThatCode(() -> operator.applyAsLong(1))
+            .isSameAs(exception);
+    }
+
+    @ParameterizedTest
+    @MethodSource("exceptions")
+    void givenUncheckedBiConsumer_whenAcceptThrows_exceptionIsUnmodified(Throwable exception) {
+        var consumer = Unchecked.biConsumer((Object a, Object b) -> {
+            throw exception;
+        });
+
+        Assertions.assertThatCode(() -> consumer.accept("yo", "lo"))
+            .isSameAs(exception);
+    }
+
+    @ParameterizedTest
+    @MethodSource("exceptions")
+    void givenUncheckedPredicate_whenTestThrows_exceptionIsUnmodified(Throwable exception) {
+        var predicate = Unchecked.predicate(it -> {
+            throw exception;
+        });
+
+        Assertions.assertThatCode(() -> predicate.test("yolo"))
+            .isSameAs(exception);
+    }
+
+    @Test
+    void givenPrimitiveStream_whenUsingUncheckedPrimitiveFunctions_thenResultsAreUnboxed() {
+        var total = LongStream.range(0, 5)
+            .map(Unchecked.longUnaryOperator(UncheckedTests::sizeOf))
+            .reduce(0, Unchecked.longBinaryOperator(Math::addExact));
+
+        var big = IntStream.range(0, 5)
+            .filter(Unchecked.intPredicate(it -> sizeOf(it) > 20))
+            .count();
+
+        var sizes = IntStream.range(0, 5)
+            .mapToLong(Unchecked.intToLongFunction(UncheckedTests::sizeOf))
+            .toArray();
+
+        var labels = IntStream.range(0, 3)
+            .mapToObj(Unchecked.intFunction(it -> sizeOf(it) + "b"))
+            .toList();
+
+        Assertions.assertThat(total)
+            .isEqualTo(100);
+        Assertions.assertThat(big)
+            .isEqualTo(2);
+        Assertions.assertThat(sizes)
+            .containsExactly(0, 10, 20, 30, 40);
+        Assertions.assertThat(labels)
+            .containsExactly("0b", "10b", "20b");
+    }
+
+    @Test
+    void givenPrimitiveStream_whenUncheckedConsumerThrows_thenCheckedExceptionEscapes() {
+        Assertions.assertThatThrownBy(() -> IntStream.of(1, -1).forEach(Unchecked.intConsumer(it -> sizeOf(it))))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Negative size: -1");
+    }
+
+    //endregion
+
+    //region Single-flight
+
+    /**
+     * Calls {@code function} from {@code callers} threads at once, all of them waiting on {@code gate} inside the {@code function}.
+     */
+    private static List<Future<Object>> callConcurrently(Unchecked.Function<String, ?> function, String input, int callers, CountDownLatch gate) throws InterruptedException {
+        var started  = new CountDownLatch(callers);
+        var futures  = new ArrayList<Future<Object>>();
+        var executor = Executors.newFixedThreadPool(callers);
+        try {
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    try {
+                        return function.apply(input);
+                    } catch (Throwable e) {
+                        return e;
+                    }
+                }));
+            }
+            started.await();
+            // Give the stragglers a moment to join the in-flight call
+            Thread.sleep(50);
+        } finally {
+            gate.countDown();
+            executor.shutdown();
+        }
+        return futures;
+    }
+
+    @Test
+    void givenConcurrentCallsWithEqualInputs_whenSingleFlight_thenFunctionIsInvokedOnce() throws Exception {
+        var invocations = new AtomicInteger();
+        var gate        = new CountDownLatch(1);
+        var function = Unchecked.singleFlight((String it) -> {
+            invocations.incrementAndGet();
+            gate.await();
+            return it + "!";
+        });
+
+        var futures = callConcurrently(function, "yolo", 16, gate);
+
+        for (var future : futures) {
+            Assertions.assertThat(future.get())
+                .isEqualTo("yolo!");
+        }
+        Assertions.assertThat(invocations)
+            .hasValue(1);
+    }
+
+    @Test
+    void givenConcurrentCallsWithEqualInputs_whenSingleFlightThrows_thenEveryCallerGetsTheSameException() throws Exception {
+        var exception = new IOException("💥");
+        var gate      = new CountDownLatch(1);
+        var function = Unchecked.singleFlight((String it) -> {
+            gate.await();
+            throw exception;
+        });
+
+        var futures = callConcurrently(function, "yolo", 16, gate);
+
+        for (var future : futures) {
+            Assertions.assertThat(future.get())
+                .isSameAs(exception);
+        }
+    }
+
+    @Test
+    void givenCompletedCall_whenSingleFlightIsCalledAgain_thenFunctionIsInvokedAgain() {
+        var invocations = new AtomicInteger();
+        var function    = Unchecked.singleFlight((String it) -> it + invocations.incrementAndGet());
+
+        Assertions.assertThat(function.apply("a"))
+            .isEqualTo("a1");
+        Assertions.assertThat(function.apply("a"))
+            .isEqualTo("a2");
+        Assertions.assertThat(function.apply("b"))
+            .isEqualTo("b3");
+    }
+
+    @Test
+    void givenFunctionReturningNull_whenSingleFlight_thenNullIsReturned() {
+        var function = Unchecked.singleFlight((String it) -> null);
+
+        Assertions.assertThat(function.apply("yolo"))
+            .isNull();
+    }
+
+    //endregion
 }
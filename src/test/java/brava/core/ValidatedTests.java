@@ -0,0 +1,59 @@
+package brava.core;
+
+import brava.core.exceptions.Problem;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+class ValidatedTests {
+    private static Problem problem(String message) {
+        return new Problem(Problem.Severity.ERROR, Lazy.of(() -> message), Optional.empty());
+    }
+
+    @Test
+    void givenOnlySuccesses_whenCombine_thenCombinerIsInvoked() {
+        var combined = Validated.combine(
+            Either.<String, Problem>ofA("a"),
+            Either.<Integer, Problem>ofA(1),
+            Either.<Boolean, Problem>ofA(true),
+            (a, b, c) -> a + b + c
+        );
+
+        Assertions.assertThat(combined.getA())
+            .isEqualTo("a1true");
+    }
+
+    @Test
+    void givenSeveralProblems_whenCombine_thenAllProblemsAreCollectedInOrder() {
+        var first  = problem("first");
+        var second = problem("second");
+
+        var combined = Validated.combine(
+            Either.<String, Problem>ofB(first),
+            Either.<Integer, Problem>ofA(1),
+            Either.<Integer, Problem>ofB(second),
+            Either.<Integer, Problem>ofA(2),
+            Either.<Integer, Problem>ofA(3),
+            Either.<Integer, Problem>ofA(4),
+            (a, b, c, d, e, f) -> Assertions.fail("Should not have been invoked!")
+        );
+
+        Assertions.assertThat(combined.getB())
+            .containsExactly(first, second);
+    }
+
+    @Test
+    void givenProblems_whenOrThrow_thenBigProblemExceptionListsEveryProblem() {
+        var combined = Validated.combine(
+            Either.<String, Problem>ofB(problem("no name")),
+            Either.<String, Problem>ofB(problem("no email")),
+            (name, email) -> name + email
+        );
+
+        Assertions.assertThatThrownBy(() -> Validated.orThrow(combined))
+            .isInstanceOf(Problem.BigProblemException.class)
+            .hasMessageContaining("no name")
+            .hasMessageContaining("no email");
+    }
+}
@@ -0,0 +1,65 @@
+package brava.core.collections;
+
+import brava.core.Either;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+class EitherListTests {
+    private static List<Either<Long, String>> mixed(int size) {
+        return IntStream.range(0, size)
+              .mapToObj(i -> i % 3 == 0 ? Either.<Long, String>ofB("💥" + i) : Either.<Long, String>ofA((long) i))
+              .toList();
+    }
+
+    @Test
+    void givenParallelStream_whenCollected_thenEqualsSourceList() {
+        // Big enough to span lots of bitmap words
+        var expected = mixed(10_000);
+
+        var actual = expected.parallelStream().collect(EitherList.toLongEitherList());
+
+        Assertions.assertThat(actual)
+              .isEqualTo(expected)
+              .hasSameHashCodeAs(expected);
+        Assertions.assertThat(actual.aCount()).isEqualTo(6_666);
+        Assertions.assertThat(actual.bCount()).isEqualTo(3_334);
+    }
+
+    @Test
+    void givenLongs_whenGetLong_thenUnboxedValueIsReturned() {
+        var list = EitherList.<String>ofLongs();
+        list.addB("💥");
+        list.addA(42L);
+
+        Assertions.assertThat(list.getLong(1)).isEqualTo(42L);
+        Assertions.assertThat(list.streamLongs()).containsExactly(42L);
+        Assertions.assertThatThrownBy(() -> list.getLong(0))
+              .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void givenObjects_whenGet_thenEitherIsMaterialized() {
+        var list = EitherList.<String, Integer>ofObjects();
+        list.addA("a");
+        list.addB(2);
+        list.add(Either.ofA("c"));
+
+        Assertions.assertThat(list)
+              .containsExactly(Either.ofA("a"), Either.ofB(2), Either.ofA("c"));
+        Assertions.assertThat(list.streamA()).containsExactly("a", "c");
+        Assertions.assertThat(list.streamB()).containsExactly(2);
+    }
+
+    @Test
+    void givenIndexOutOfBounds_whenGet_thenIndexOutOfBoundsException() {
+        var list = EitherList.<String>ofInts();
+        list.addA(1);
+
+        Assertions.assertThatThrownBy(() -> list.get(1))
+              .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}